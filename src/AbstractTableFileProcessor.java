@@ -1,9 +1,16 @@
-import java.io.UncheckedIOException;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 /**
  * This abstract class implements the foundational logic shared between {@link TableFileReader} and
@@ -12,6 +19,7 @@ import java.util.stream.Collectors;
 sealed abstract class AbstractTableFileProcessor permits TableFileReader, TableFileWriter, AbstractTableFileProcessorTest.Target {
     final Path path;
     final String separator;
+    private final Supplier<Head> head = Utils.lazy(this::readHead);
 
     //==================================================================================================================
     // Constructors
@@ -30,6 +38,34 @@ sealed abstract class AbstractTableFileProcessor permits TableFileReader, TableF
         this.separator = Objects.requireNonNullElseGet(separator, this::inferSeparator);
     }
 
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Determine whether this {@link AbstractTableFileProcessor}'s file is gzip-compressed by its extension or, failing
+     *   that, its first two bytes.
+     *
+     * @implNote The file is only opened once to determine both this and its {@linkplain #firstLine() first line}.
+     *
+     * @see GzipFile#isGzip(Path)
+     */
+    boolean isGzip() {
+        return head.get().isGzip();
+    }
+
+    /**
+     * Retrieve the first line of this {@link AbstractTableFileProcessor}'s file (i.e., the first line that
+     *   {@link TableFileReader#lines(Path)} would read), decompressing it if necessary.
+     *
+     * @return The first line of the file, or nothing if the file is empty or cannot be read
+     *
+     * @implNote The file is only opened once to determine both this and whether it is {@linkplain #isGzip() gzip}.
+     */
+    Optional<String> firstLine() {
+        return Optional.ofNullable(head.get().firstLine());
+    }
+
     //==================================================================================================================
     // Object Implementation Methods
     //==================================================================================================================
@@ -54,7 +90,7 @@ sealed abstract class AbstractTableFileProcessor permits TableFileReader, TableF
 
     /**
      * Determine the column separator to use by using this {@link AbstractTableFileProcessor}'s {@link Path}'s
-     *   extension.
+     *   extension, ignoring any gzip extension (e.g., {@code .csv.gz}).
      *
      * @see Constants#SEPARATORS
      */
@@ -62,6 +98,7 @@ sealed abstract class AbstractTableFileProcessor permits TableFileReader, TableF
         return Optional
             .ofNullable(path.getFileName())
             .map(Path::toString)
+            .map(GzipFile::stripExtension)
             .filter(fileName -> fileName.contains("."))
             .map(fileName -> fileName.substring(fileName.lastIndexOf('.') + 1))
             .map(String::toLowerCase)
@@ -73,19 +110,57 @@ sealed abstract class AbstractTableFileProcessor permits TableFileReader, TableF
      *   the most common non-alphanumeric character occurrence.
      */
     private Optional<String> inferSeparatorByFirstLine() {
-        try (var firstLine = TableFileReader.lines(path).limit(1L)) {
-            return firstLine
-                .flatMapToInt(String::codePoints)
-                .filter(codePoint -> !(Character.isAlphabetic(codePoint) || Character.isDigit(codePoint)))
-                .boxed()
-                .collect(Collectors.groupingByConcurrent(Character::toString, Utils.countingCollector()))
-                .entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey);
-        } catch (UncheckedIOException exception) {
-            // Do not fail if we can't read the file to infer the separator; this is an optional feature.
-            return Optional.empty();
+        return firstLine()
+            .stream()
+            .flatMapToInt(String::codePoints)
+            .filter(codePoint -> !(Character.isAlphabetic(codePoint) || Character.isDigit(codePoint)))
+            .boxed()
+            .collect(Collectors.groupingByConcurrent(Character::toString, Utils.countingCollector()))
+            .entrySet()
+            .stream()
+            .max(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey);
+    }
+
+    /**
+     * Open this {@link AbstractTableFileProcessor}'s file once to determine whether it is gzip-compressed and to read
+     *   its first line.
+     */
+    private Head readHead() {
+        final var hasExtension = Optional
+            .ofNullable(path.getFileName())
+            .map(Path::toString)
+            .filter(GzipFile::hasExtension)
+            .isPresent();
+
+        try (var input = new BufferedInputStream(Files.newInputStream(path))) {
+            input.mark(2);
+            final var isGzip = hasExtension || GzipFile.hasMagicBytes(input);
+            input.reset();
+
+            final var reader = new BufferedReader(
+                new InputStreamReader(isGzip ? new GZIPInputStream(input) : input, StandardCharsets.UTF_8)
+            );
+            var line = reader.readLine();
+            while (!Settings.FAST && line != null && line.isEmpty()) {
+                line = reader.readLine(); // Skip empty lines like TableFileReader.lines() does.
+            }
+            return new Head(isGzip, line);
+        } catch (IOException exception) {
+            // Do not fail if we can't read the file; the caller fails on opening the file instead.
+            return new Head(hasExtension, null);
         }
     }
+
+    //==================================================================================================================
+    // Head Support
+    //==================================================================================================================
+
+    /**
+     * This record is what is known about a file from reading its beginning.
+     *
+     * @param isGzip Whether the file is gzip-compressed
+     * @param firstLine The first line of the file, or {@code null} if the file is empty or cannot be read
+     */
+    private record Head(boolean isGzip, String firstLine) { }
 }
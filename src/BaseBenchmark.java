@@ -0,0 +1,327 @@
+import com.sun.management.ThreadMXBean;
+
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * This class is a minimal implementation of a microbenchmarking harness that does not require external benchmarking
+ *   dependencies (e.g., JMH).
+ * <br/><br/>
+ *
+ * Every {@linkplain Benchmark benchmark method} of a benchmark class is run in its own forked JVM by default, so that
+ *   the just-in-time compiler's profile of one benchmark does not skew another. Within the fork, the benchmark method
+ *   is invoked repeatedly for a number of timed warm-up iterations, whose results are discarded, followed by a number
+ *   of timed measurement iterations, whose average time and allocation per invocation are reported.
+ * <br/><br/>
+ *
+ * The harness can be configured using the following system properties:
+ * <ul>
+ *   <li>{@code benchmark.forks}: The number of forked JVMs per benchmark; {@code 0} runs in-process (default: 1)</li>
+ *   <li>{@code benchmark.warmups}: The number of warm-up iterations (default: 5)</li>
+ *   <li>{@code benchmark.iterations}: The number of measurement iterations (default: 5)</li>
+ *   <li>{@code benchmark.time}: The duration of every iteration in milliseconds (default: 1000)</li>
+ *   <li>{@code benchmark.filter}: A regular expression that {@code Class.method} names must contain (default: all)</li>
+ * </ul>
+ */
+abstract class BaseBenchmark {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final MethodType OPERATION_TYPE = MethodType.methodType(Object.class, Blackhole.class);
+    private static final String HORIZONTAL_RULE = "=".repeat(100);
+    private static final String FORK_PROPERTY = "benchmark.fork";
+    private static final int FORKS = Integer.getInteger("benchmark.forks", 1);
+    private static final int WARM_UP_ITERATIONS = Integer.getInteger("benchmark.warmups", 5);
+    private static final int MEASUREMENT_ITERATIONS = Integer.getInteger("benchmark.iterations", 5);
+    private static final long ITERATION_NANOS = Integer.getInteger("benchmark.time", 1000) * 1_000_000L;
+    private static final Pattern FILTER = Pattern.compile(System.getProperty("benchmark.filter", ""));
+
+    //==================================================================================================================
+    // Benchmark Support
+    //==================================================================================================================
+
+    /**
+     * This annotation marks a method as a benchmark method that will be invoked by {@link #run()}.
+     * <br/><br/>
+     *
+     * A benchmark method takes either no parameters or a single {@link Blackhole} parameter. Its return value, if any,
+     *   is consumed by a {@link Blackhole} so that the just-in-time compiler cannot eliminate the work producing it.
+     *   Any state it requires should be set up by the benchmark class' default constructor, which is invoked once per
+     *   benchmark method before its warm-up iterations.
+     */
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Benchmark { }
+
+    /**
+     * Run the current benchmark class.
+     *
+     * @apiNote This method should be called from the main bootstrap method.
+     *
+     * @see Benchmark @Benchmark
+     */
+    static void run() {
+        run(STACK_WALKER.getCallerClass());
+    }
+
+    /**
+     * Run a given benchmark class.
+     *
+     * @param benchmarkClass The benchmark class to run the benchmarks for; it must have a main bootstrap method that
+     *                       calls {@link #run()} so that its benchmarks can be forked
+     *
+     * @apiNote This method should be called from the main bootstrap method.
+     *
+     * @see Benchmark @Benchmark
+     */
+    static void run(Class<?> benchmarkClass) {
+        final var benchmarkSuiteName = benchmarkClass.getSimpleName();
+        final var fork = System.getProperty(FORK_PROPERTY);
+        final var failures = new ArrayList<Throwable>();
+        if (fork == null) {
+            Loggers.INFO.accept(HORIZONTAL_RULE);
+            Loggers.INFO.accept("[@] Running benchmarks: " + benchmarkSuiteName);
+            Loggers.INFO.accept(HORIZONTAL_RULE);
+        }
+
+        final var methods = benchmarkClass.getDeclaredMethods();
+        Arrays.sort(methods, Comparator.comparing(Method::getName)); // Run benchmarks in a predictable order.
+        for (final var method : methods) {
+            final var benchmarkName = benchmarkSuiteName + "." + method.getName();
+            if (!method.isAnnotationPresent(Benchmark.class)
+                || (fork != null ? !fork.equals(method.getName()) : !FILTER.matcher(benchmarkName).find())) {
+                continue;
+            }
+
+            try {
+                if (fork == null && FORKS > 0) {
+                    for (var index = 1; index <= FORKS; index++) {
+                        Loggers.INFO.accept("[@] Forking benchmark (%d/%d): %s".formatted(index, FORKS, benchmarkName));
+                        fork(benchmarkClass, method);
+                    }
+                } else {
+                    Loggers.INFO.accept("[@] Running benchmark: " + benchmarkName);
+                    Loggers.INFO.accept("[#] " + measure(benchmarkName, benchmarkClass, method));
+                }
+            } catch (Throwable cause) {
+                Loggers.ERROR.accept("[!] Benchmark error: " + benchmarkName, cause);
+                failures.add(cause);
+            } finally {
+                if (fork == null) {
+                    Loggers.INFO.accept(HORIZONTAL_RULE);
+                }
+            }
+        }
+
+        switch (failures.size()) {
+            case 0 -> { }
+            case 1 -> throw new IllegalStateException("Benchmark failure: " + benchmarkSuiteName, failures.getFirst());
+            default -> {
+                var error = new IllegalStateException("Multiple benchmark failures: " + benchmarkSuiteName);
+                failures.forEach(error::addSuppressed);
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * This class consumes values produced by benchmarks so that the just-in-time compiler cannot prove them unused and
+     *   eliminate the work producing them.
+     *
+     * @implNote Every value is written to a field of this {@link Blackhole}, which is reachable from outside the
+     *           benchmark method and therefore cannot be optimized away.
+     */
+    static final class Blackhole {
+        private Object object;
+        private int integer;
+        private long number;
+
+        private Blackhole() { }
+
+        void consume(Object object) {
+            this.object = object;
+        }
+
+        void consume(int value) {
+            integer ^= value;
+        }
+
+        void consume(long value) {
+            number ^= value;
+        }
+
+        void consume(boolean value) {
+            integer ^= value ? 1 : 0;
+        }
+
+        @Override
+        public String toString() {
+            return "%s[%d]".formatted(super.toString(), System.identityHashCode(object) ^ integer ^ number);
+        }
+    }
+
+    /**
+     * This record contains the measured results of a single benchmark.
+     *
+     * @param name The name of the benchmark in the form of {@code Class.method}
+     * @param nanosPerOperation The average time per invocation of the benchmark method in nanoseconds
+     * @param error The standard deviation of the time per invocation across the measurement iterations
+     * @param bytesPerOperation The average number of bytes allocated per invocation across all threads
+     */
+    record Result(String name, double nanosPerOperation, double error, double bytesPerOperation) {
+        /**
+         * Retrieve the average number of invocations of the benchmark method per second.
+         */
+        double operationsPerSecond() {
+            return 1_000_000_000D / nanosPerOperation;
+        }
+
+        @Override
+        public String toString() {
+            return "%s: %,.1f +/- %,.1f ns/op, %,.1f ops/s, %,.1f B/op".formatted(
+                name,
+                nanosPerOperation,
+                error,
+                operationsPerSecond(),
+                bytesPerOperation
+            );
+        }
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Run a given benchmark method in a forked JVM that inherits the current JVM's arguments and class path.
+     */
+    private static void fork(Class<?> benchmarkClass, Method method) throws IOException, InterruptedException {
+        final var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.addAll(List.of(
+            "-D%s=%s".formatted(FORK_PROPERTY, method.getName()),
+            "-cp",
+            System.getProperty("java.class.path"),
+            benchmarkClass.getName()
+        ));
+
+        final var exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException("Forked benchmark exited with code %d: %s".formatted(exitCode, method));
+        }
+    }
+
+    /**
+     * Measure a given benchmark method using a new instance of its benchmark class.
+     */
+    private static Result measure(String name, Class<?> benchmarkClass, Method method) throws Throwable {
+        final var lookup = MethodHandles.privateLookupIn(benchmarkClass, LOOKUP);
+        final var instance = lookup.findConstructor(benchmarkClass, MethodType.methodType(void.class)).invoke();
+        final var operation = toOperation(lookup.unreflect(method).bindTo(instance), method);
+        final var blackhole = new Blackhole();
+
+        final var nanos = new double[MEASUREMENT_ITERATIONS];
+        final var bytes = new double[MEASUREMENT_ITERATIONS];
+        for (var iteration = -WARM_UP_ITERATIONS; iteration < MEASUREMENT_ITERATIONS; iteration++) {
+            final var result = iterate(operation, blackhole);
+            if (iteration < 0) {
+                Loggers.INFO.accept("[%%] Warm-up iteration %d: %,.1f ns/op".formatted(
+                    iteration + WARM_UP_ITERATIONS + 1,
+                    result[0]
+                ));
+            } else {
+                Loggers.INFO.accept("[%%] Iteration %d: %,.1f ns/op, %,.1f B/op".formatted(
+                    iteration + 1,
+                    result[0],
+                    result[1]
+                ));
+                nanos[iteration] = result[0];
+                bytes[iteration] = result[1];
+            }
+        }
+
+        Loggers.INFO.accept("[%] Blackhole: " + blackhole);
+        return new Result(name, mean(nanos), standardDeviation(nanos), mean(bytes));
+    }
+
+    /**
+     * Adapt a given bound benchmark method into a {@link MethodHandle} of type {@code (Blackhole)Object}.
+     */
+    private static MethodHandle toOperation(MethodHandle handle, Method method) {
+        final var parameters = method.getParameterTypes();
+        if (parameters.length == 0) {
+            return MethodHandles.dropArguments(handle, 0, Blackhole.class).asType(OPERATION_TYPE);
+        } else if (parameters.length == 1 && parameters[0] == Blackhole.class) {
+            return handle.asType(OPERATION_TYPE);
+        }
+        throw new IllegalArgumentException("Benchmark methods must take no parameters or a Blackhole: " + method);
+    }
+
+    /**
+     * Invoke a given operation repeatedly for a single iteration.
+     *
+     * @return The average time in nanoseconds and allocated bytes per invocation
+     *
+     * @implNote Allocations are summed across all threads (e.g., {@link java.util.concurrent.ForkJoinPool} workers)
+     *           that are alive at the end of the iteration, so that parallel benchmarks are accounted for.
+     */
+    private static double[] iterate(MethodHandle operation, Blackhole blackhole) throws Throwable {
+        final var allocated = allocatedBytes();
+        final var startTime = System.nanoTime();
+        final var deadline = startTime + ITERATION_NANOS;
+
+        var operations = 0L;
+        var endTime = startTime;
+        while (endTime - deadline < 0L) {
+            blackhole.consume((Object) operation.invokeExact(blackhole));
+            operations++;
+            endTime = System.nanoTime();
+        }
+
+        var bytes = 0L;
+        for (final var entry : allocatedBytes().entrySet()) {
+            bytes += entry.getValue() - allocated.getOrDefault(entry.getKey(), 0L);
+        }
+        return new double[] {(endTime - startTime) / (double) operations, bytes / (double) operations};
+    }
+
+    /**
+     * Retrieve the number of bytes allocated by every live thread, keyed by thread ID.
+     */
+    private static HashMap<Long, Long> allocatedBytes() {
+        final var threadIDs = THREADS.getAllThreadIds();
+        final var allocatedBytes = THREADS.getThreadAllocatedBytes(threadIDs);
+        final var allocated = new HashMap<Long, Long>(threadIDs.length * 2);
+        for (var index = 0; index < threadIDs.length; index++) {
+            if (allocatedBytes[index] >= 0L) { // Threads that have terminated report -1.
+                allocated.put(threadIDs[index], allocatedBytes[index]);
+            }
+        }
+        return allocated;
+    }
+
+    private static double mean(double[] values) {
+        return Arrays.stream(values).average().orElse(Double.NaN);
+    }
+
+    private static double standardDeviation(double[] values) {
+        final var mean = mean(values);
+        return Math.sqrt(Arrays.stream(values).map(value -> (value - mean) * (value - mean)).sum() / values.length);
+    }
+}
@@ -1,5 +1,7 @@
 import sun.misc.Unsafe;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -8,6 +10,9 @@ import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Objects;
@@ -246,6 +251,45 @@ abstract class BaseUnitTest {
         return Arrays.deepEquals(a, b);
     }
 
+    /**
+     * Create a temporary file with a given suffix and content, which is deleted after the JVM terminates.
+     *
+     * @param suffix The suffix of the file's name (e.g., {@code .log}); may be {@code null} to use {@code .tmp}
+     * @param content The content of the file
+     */
+    static Path createTempFile(String suffix, String content) {
+        return createTempFile(suffix, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Create a temporary file with a given suffix and binary content, which is deleted after the JVM terminates.
+     *
+     * @param suffix The suffix of the file's name (e.g., {@code .gz}); may be {@code null} to use {@code .tmp}
+     * @param content The content of the file
+     */
+    static Path createTempFile(String suffix, byte[] content) {
+        try {
+            final var path = Files.createTempFile(null, suffix);
+            path.toFile().deleteOnExit(); // Delete the file after the JVM terminates.
+            return Files.write(path, content);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to create temporary file for testing", exception);
+        }
+    }
+
+    /**
+     * Create a temporary directory, which is deleted after the JVM terminates if it is empty by then.
+     */
+    static Path createTempDirectory() {
+        try {
+            final var path = Files.createTempDirectory(null);
+            path.toFile().deleteOnExit(); // Delete the directory after the JVM terminates.
+            return path;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to create temporary directory for testing", exception);
+        }
+    }
+
     //==================================================================================================================
     // Private Helper Methods
     //==================================================================================================================
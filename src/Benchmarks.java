@@ -0,0 +1,21 @@
+import java.util.List;
+import java.util.SequencedCollection;
+
+public class Benchmarks extends BaseBenchmark {
+    private static final SequencedCollection<Class<? extends BaseBenchmark>> BENCHMARKS =
+        List.of(
+            ProtocolBenchmark.class,
+            IANAProtocolsBenchmark.class,
+            TagsBenchmark.class,
+            TableFileReaderBenchmark.class,
+            FlowLogProcessorBenchmark.class
+        );
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String... args) {
+        BENCHMARKS.forEach(BaseBenchmark::run);
+    }
+}
@@ -0,0 +1,165 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * This record is a snapshot of the progress of processing a flow log file, from which processing can be resumed after
+ *   the program has been interrupted.
+ * <br/><br/>
+ *
+ * A {@link Checkpoint} is persisted as a {@link ChecksummedFile} with the magic number {@code FLCP}, whose body
+ *   consists of the following:
+ * <ul>
+ *   <li>The absolute path, size, and last modified time of the flow log file, which identify the file</li>
+ *   <li>The position within the file up to which every line has been counted</li>
+ *   <li>The {@linkplain FlowCounts#toBytes() binary form} of the {@link FlowCounts} of those lines</li>
+ * </ul>
+ *
+ * @param input The absolute {@link Path} of the flow log file
+ * @param size The size of the flow log file in bytes
+ * @param lastModified The last modified time of the flow log file in milliseconds since the epoch
+ * @param position The position within the flow log file up to which every line has been counted; this is always the
+ *                 start of a line
+ * @param counts The {@link FlowCounts} of every line before {@code position}
+ *
+ * @implNote Only the port/protocol combination counts are persisted, so a {@link Checkpoint} remains valid even if
+ *           the lookup table changes; the tag counts are derived from the combination counts once processing is
+ *           complete.
+ */
+record Checkpoint(Path input, long size, long lastModified, long position, FlowCounts counts) {
+    private static final int MAGIC = 0x464c4350; // FLCP
+    private static final int VERSION = 1;
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    Checkpoint {
+        input = input.toAbsolutePath().normalize();
+        Objects.requireNonNull(counts);
+    }
+
+    //==================================================================================================================
+    // Factory Methods
+    //==================================================================================================================
+
+    /**
+     * Create a {@link Checkpoint} of a given flow log file in its current state.
+     *
+     * @param input The {@link Path} of the flow log file
+     * @param position The position within the flow log file up to which every line has been counted
+     * @param counts The {@link FlowCounts} of every line before {@code position}
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while reading the
+     *                              file's attributes
+     */
+    static Checkpoint of(Path input, long position, FlowCounts counts) throws UncheckedIOException {
+        try {
+            final var lastModified = Files.getLastModifiedTime(input).toMillis();
+            return new Checkpoint(input, Files.size(input), lastModified, position, counts);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read file attributes: " + input, exception);
+        }
+    }
+
+    /**
+     * Read a {@link Checkpoint} from a given {@link Path}.
+     *
+     * @param path The {@link Path} of the checkpoint file to read
+     * @return The {@link Checkpoint}, or nothing if the checkpoint file does not exist or is corrupt (e.g., written by
+     *         an incompatible version of the program)
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while reading the
+     *                              checkpoint file
+     */
+    static Optional<Checkpoint> read(Path path) throws UncheckedIOException {
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+
+        try {
+            final var contents = ChecksummedFile.read(path, MAGIC).filter(read -> read.version() == VERSION);
+            if (contents.isEmpty()) {
+                Loggers.INFO.accept("[!] Ignoring invalid checkpoint: " + path);
+                return Optional.empty();
+            }
+
+            final var bytes = contents.get().body();
+            final var length = bytes.getInt();
+            if (length < 0 || length > bytes.remaining()) {
+                throw new IllegalArgumentException("Invalid path length: " + length);
+            }
+            final var input = new byte[length];
+            bytes.get(input);
+            return Optional.of(new Checkpoint(
+                Path.of(new String(input, StandardCharsets.UTF_8)),
+                bytes.getLong(),
+                bytes.getLong(),
+                bytes.getLong(),
+                FlowCounts.fromBytes(bytes)
+            ));
+        } catch (IllegalArgumentException | BufferUnderflowException exception) {
+            Loggers.INFO.accept("[!] Ignoring invalid checkpoint: " + path);
+            return Optional.empty();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read checkpoint: " + path, exception);
+        }
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Determine whether this {@link Checkpoint} was taken of a given flow log file in its current state.
+     *
+     * @param input The {@link Path} of the flow log file
+     * @return Whether the given flow log file has the same path, size, and last modified time as when this
+     *         {@link Checkpoint} was taken
+     */
+    boolean matches(Path input) {
+        try {
+            return this.input.equals(input.toAbsolutePath().normalize())
+                && size == Files.size(input)
+                && lastModified == Files.getLastModifiedTime(input).toMillis();
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Write this {@link Checkpoint} to a given {@link Path} atomically, replacing any existing checkpoint.
+     *
+     * @param path The {@link Path} of the checkpoint file to write
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while writing the
+     *                              checkpoint file
+     *
+     * @see ChecksummedFile#write(Path, int, int, ByteBuffer)
+     */
+    void write(Path path) throws UncheckedIOException {
+        final var input = this.input.toString().getBytes(StandardCharsets.UTF_8);
+        final var counts = this.counts.toBytes();
+        final var bytes = ByteBuffer
+            .allocate(Integer.BYTES + input.length + Long.BYTES * 3 + counts.remaining())
+            .putInt(input.length)
+            .put(input)
+            .putLong(size)
+            .putLong(lastModified)
+            .putLong(position)
+            .put(counts)
+            .flip();
+
+        try {
+            ChecksummedFile.write(path, MAGIC, VERSION, bytes);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to write checkpoint: " + path, exception);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+class CheckpointTest extends BaseUnitTest {
+    private static final Path INPUT = createTempFile(null, "input");
+    private static final FlowCounts COUNTS = IntStream
+        .range(0, ThreadLocalRandom.current().nextInt(1, 1000))
+        .map(row -> ProtocolKey.of(ThreadLocalRandom.current().nextInt(1 << 16), 6))
+        .boxed()
+        .collect(FlowCounts.collector(Integer::intValue));
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void read_givenWrite_willReturnEqualCheckpoint() {
+        final var path = createTempFile(null, "");
+        final var expected = Checkpoint.of(INPUT, 3L, COUNTS);
+        expected.write(path);
+
+        final var given = Checkpoint.read(path).orElseThrow();
+        assert$(
+            given.input().equals(expected.input())
+                && given.size() == expected.size()
+                && given.lastModified() == expected.lastModified()
+                && given.position() == expected.position()
+                && given.counts().combinations().equals(expected.counts().combinations()),
+            () -> "Unexpected checkpoint: expected=%s, given=%s".formatted(expected, given)
+        );
+        assert$(given.matches(INPUT), "Expected checkpoint to match its input: " + INPUT);
+    }
+
+    @Test
+    void read_givenMissingFile_willReturnNothing() {
+        assert$(Checkpoint.read(Path.of("missing.bin")).isEmpty(), "Expected no checkpoint");
+    }
+
+    @Test
+    void read_givenCorruptFile_willReturnNothing() throws IOException {
+        final var path = createTempFile(null, "");
+        Checkpoint.of(INPUT, 3L, COUNTS).write(path);
+
+        final var bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(path, bytes);
+        assert$(Checkpoint.read(path).isEmpty(), "Expected corrupt checkpoint to be ignored");
+    }
+
+    @Test
+    void matches_givenModifiedInput_willReturnFalse() throws IOException {
+        final var input = createTempFile(null, "input");
+        final var checkpoint = Checkpoint.of(input, 3L, COUNTS);
+
+        Files.writeString(input, "modified");
+        assert$(!checkpoint.matches(input), "Expected checkpoint not to match its modified input: " + input);
+        assert$(!checkpoint.matches(INPUT), "Expected checkpoint not to match another input: " + INPUT);
+    }
+}
@@ -0,0 +1,94 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * This interface writes and reads the binary files persisted by the program (e.g., {@link Checkpoint}s and
+ *   {@link CountsFile}s), which all share the same framing:
+ * <ul>
+ *   <li>A magic number identifying the kind of file, and a format version</li>
+ *   <li>The body, whose layout is up to the kind of file and its version</li>
+ *   <li>A CRC-32C checksum of all the above</li>
+ * </ul>
+ */
+interface ChecksummedFile {
+    /**
+     * Write a file with a given magic number, format version, and body atomically, replacing any existing file.
+     *
+     * @param path The {@link Path} of the file to write
+     * @param magic The magic number identifying the kind of file
+     * @param version The format version of the body
+     * @param body The {@link ByteBuffer} whose remaining bytes are the body; its position is left unchanged
+     *
+     * @throws IOException If the file cannot be written
+     *
+     * @implNote The file is written to a temporary file that is then moved over the file, so that an interruption
+     *           while writing never leaves a partially written file behind.
+     */
+    static void write(Path path, int magic, int version, ByteBuffer body) throws IOException {
+        final var header = ByteBuffer.allocate(Integer.BYTES * 2).putInt(magic).putInt(version).flip();
+        final var checksum = new CRC32C();
+        checksum.update(header.duplicate());
+        checksum.update(body.duplicate());
+        final var trailer = ByteBuffer.allocate(Integer.BYTES).putInt((int) checksum.getValue()).flip();
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        final var temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(
+            temporaryPath,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            final var buffers = new ByteBuffer[] {header, body.duplicate(), trailer};
+            while (trailer.hasRemaining()) {
+                channel.write(buffers);
+            }
+        }
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read a file with a given magic number, verifying its checksum.
+     *
+     * @param path The {@link Path} of the file to read
+     * @param magic The magic number identifying the expected kind of file
+     * @return The file's format version and body, or nothing if the file is too short, has a different magic number,
+     *         or fails its checksum (e.g., it was corrupted)
+     *
+     * @throws IOException If the file cannot be read
+     */
+    static Optional<Contents> read(Path path, int magic) throws IOException {
+        final var bytes = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (bytes.limit() < Integer.BYTES * 3) {
+            return Optional.empty();
+        }
+
+        final var end = bytes.limit() - Integer.BYTES;
+        final var checksum = new CRC32C();
+        checksum.update(bytes.slice(0, end));
+        if (bytes.getInt(0) != magic || bytes.getInt(end) != (int) checksum.getValue()) {
+            return Optional.empty();
+        }
+        final var start = Integer.BYTES * 2; // The body follows the magic number and the format version.
+        return Optional.of(new Contents(bytes.getInt(Integer.BYTES), bytes.slice(start, end - start)));
+    }
+
+    //==================================================================================================================
+    // Contents Support
+    //==================================================================================================================
+
+    /**
+     * This record is the verified contents of a file read by {@link #read(Path, int)}.
+     *
+     * @param version The format version of the body
+     * @param body The body, without the header and the checksum
+     */
+    record Contents(int version, ByteBuffer body) { }
+}
@@ -0,0 +1,72 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+
+class ChecksummedFileTest extends BaseUnitTest {
+    private static final int MAGIC = 0x54455354; // "TEST"
+    private static final byte[] BODY = createBody();
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void read_givenWrite_willReturnSameVersionAndBody() throws IOException {
+        final var path = createTempFile(null, "");
+        ChecksummedFile.write(path, MAGIC, 3, ByteBuffer.wrap(BODY));
+
+        final var given = ChecksummedFile.read(path, MAGIC).orElseThrow();
+        assert$(given.version() == 3, () -> "Unexpected version: expected=3, given=" + given.version());
+        assert$(given.body().equals(ByteBuffer.wrap(BODY)), "Expected body to be equal to written body");
+    }
+
+    @Test
+    void write_givenBody_willLeaveBodyPositionUnchanged() throws IOException {
+        final var body = ByteBuffer.wrap(BODY);
+        ChecksummedFile.write(createTempFile(null, ""), MAGIC, 1, body);
+        assert$(body.position() == 0, () -> "Unexpected body position: expected=0, given=" + body.position());
+    }
+
+    @Test
+    void read_givenDifferentMagic_willReturnNothing() throws IOException {
+        final var path = createTempFile(null, "");
+        ChecksummedFile.write(path, MAGIC, 1, ByteBuffer.wrap(BODY));
+        assert$(ChecksummedFile.read(path, MAGIC + 1).isEmpty(), "Expected file with other magic to be ignored");
+    }
+
+    @Test
+    void read_givenCorruptFile_willReturnNothing() throws IOException {
+        final var path = createTempFile(null, "");
+        ChecksummedFile.write(path, MAGIC, 1, ByteBuffer.wrap(BODY));
+
+        final var bytes = Files.readAllBytes(path);
+        bytes[ThreadLocalRandom.current().nextInt(bytes.length)] ^= 1;
+        Files.write(path, bytes);
+        assert$(ChecksummedFile.read(path, MAGIC).isEmpty(), "Expected corrupt file to be ignored");
+    }
+
+    @Test
+    void read_givenTruncatedFile_willReturnNothing() throws IOException {
+        final var path = createTempFile(null, new byte[Integer.BYTES * 2]);
+        assert$(ChecksummedFile.read(path, MAGIC).isEmpty(), "Expected truncated file to be ignored");
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static byte[] createBody() {
+        final var body = new byte[ThreadLocalRandom.current().nextInt(0, 1000)];
+        ThreadLocalRandom.current().nextBytes(body);
+        return body;
+    }
+}
@@ -1,6 +1,7 @@
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 /**
  * This interface defines common constants used within the program.
@@ -17,15 +18,26 @@ interface Constants {
     Path INPUT_PATH = RESOURCE_DIRECTORY.resolve("input.log");
     Path OUTPUT_PATH = OUTPUT_DIRECTORY.resolve("output.csv");
     Path DEBUG_PATH = OUTPUT_DIRECTORY.resolve("debug.log");
+    Path CHECKPOINT_PATH = OUTPUT_DIRECTORY.resolve("checkpoint.bin");
+    Path COUNTS_PATH = OUTPUT_DIRECTORY.resolve("counts.bin");
+    Path RESULT_STORE_PATH = OUTPUT_DIRECTORY.resolve("results.bin");
+    Path METRICS_PATH = OUTPUT_DIRECTORY.resolve("metrics.json");
     Path LOOKUP_TABLE_PATH = RESOURCE_DIRECTORY.resolve("lookup_table.csv");
     Path IANA_PROTOCOLS_PATH = RESOURCE_DIRECTORY.resolve("iana_protocols.csv");
+    Path LOOKUP_TABLE_SNAPSHOT_PATH = OUTPUT_DIRECTORY.resolve("lookup_table.bin");
+    Path IANA_PROTOCOLS_SNAPSHOT_PATH = OUTPUT_DIRECTORY.resolve("iana_protocols.bin");
 
-    // Tables
-    Tags TAGS = new Tags(new TableFileReader(LOOKUP_TABLE_PATH));
-    IANAProtocols IANA_PROTOCOLS = new IANAProtocols(new TableFileReader(IANA_PROTOCOLS_PATH));
+    // Tables (built on first use, since not every run needs them)
+    Supplier<Tags> TAGS = Utils.lazy(() -> new Tags(TableSnapshot.load(LOOKUP_TABLE_PATH, LOOKUP_TABLE_SNAPSHOT_PATH)));
+    Supplier<IANAProtocols> IANA_PROTOCOLS = Utils.lazy(
+        () -> new IANAProtocols(TableSnapshot.load(IANA_PROTOCOLS_PATH, IANA_PROTOCOLS_SNAPSHOT_PATH))
+    );
 
     // Runtime support
-    int PARALLELISM = ForkJoinPool.getCommonPoolParallelism();
+    ForkJoinPool POOL = Settings.PARALLELISM > 0
+        ? Utils.newForkJoinPool(Settings.PARALLELISM, Settings.THREAD_PREFIX + "-worker")
+        : ForkJoinPool.commonPool();
+    int PARALLELISM = POOL.getParallelism();
     long FLOW_LOG_RECORD_SIZE = 129L; // The approximate size in bytes for a single line of record in a flow log file
     long KIBIBYTE_SCALE = 1L << 10;
     long MEBIBYTE_SCALE = KIBIBYTE_SCALE << 10;
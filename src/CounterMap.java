@@ -0,0 +1,189 @@
+import java.util.Arrays;
+
+/**
+ * This class is a primitive-specialized map of non-negative {@code int} keys to {@code long} counts that uses open
+ *   addressing with linear probing, so that counting never allocates any objects once the map has grown to fit its
+ *   keys.
+ *
+ * @implNote Instances of this class are not thread-safe; every thread should count into its own {@link CounterMap}, and
+ *           the {@link CounterMap}s should be {@linkplain #merge(CounterMap) merged} once counting is complete.
+ */
+final class CounterMap {
+    private static final int EMPTY = -1;
+    private static final int DEFAULT_CAPACITY = 1 << 6;
+
+    private int[] keys;
+    private long[] counts;
+    private int size;
+    private int mask;
+    private int shift;
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    /**
+     * Construct an empty {@link CounterMap}.
+     */
+    CounterMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct an empty {@link CounterMap} with room for a given number of keys before it needs to grow.
+     *
+     * @param expectedSize The number of keys the constructed {@link CounterMap} is expected to hold
+     */
+    CounterMap(int expectedSize) {
+        allocate(Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1));
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Increment the count of a given key by one.
+     *
+     * @param key The non-negative key whose count to increment
+     */
+    void increment(int key) {
+        add(key, 1L);
+    }
+
+    /**
+     * Increment the count of a given key by a given amount.
+     *
+     * @param key The non-negative key whose count to increment
+     * @param count The amount to increment the count by
+     */
+    void add(int key, long count) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Keys must be non-negative: " + key);
+        }
+
+        var index = indexOf(key);
+        if (keys[index] == EMPTY) {
+            if ((size + 1) * 2 > keys.length) {
+                grow();
+                index = indexOf(key);
+            }
+            keys[index] = key;
+            size++;
+        }
+        counts[index] += count;
+    }
+
+    /**
+     * Retrieve the count of a given key.
+     *
+     * @param key The key whose count to retrieve
+     * @return The count of the given key, or {@code 0} if it has never been counted
+     */
+    long get(int key) {
+        final var index = key >= 0 ? indexOf(key) : -1;
+        return index >= 0 && keys[index] == key ? counts[index] : 0L;
+    }
+
+    /**
+     * Add every count of a given {@link CounterMap} to this {@link CounterMap}.
+     *
+     * @param other The {@link CounterMap} whose counts to add
+     * @return This {@link CounterMap} for chaining
+     */
+    CounterMap merge(CounterMap other) {
+        other.forEach(this::add);
+        return this;
+    }
+
+    /**
+     * Perform a given action for every key and its count.
+     *
+     * @param action The action to perform for every key and its count
+     */
+    void forEach(EntryConsumer action) {
+        for (var index = 0; index < keys.length; index++) {
+            if (keys[index] != EMPTY) {
+                action.accept(keys[index], counts[index]);
+            }
+        }
+    }
+
+    /**
+     * Retrieve the number of keys in this {@link CounterMap}.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Retrieve the sum of every count in this {@link CounterMap}.
+     */
+    long sum() {
+        var sum = 0L;
+        for (var index = 0; index < keys.length; index++) {
+            sum += keys[index] != EMPTY ? counts[index] : 0L;
+        }
+        return sum;
+    }
+
+    //==================================================================================================================
+    // Object Implementation Methods
+    //==================================================================================================================
+
+    @Override
+    public String toString() {
+        final var string = new StringBuilder("{");
+        forEach((key, count) -> string.append(string.length() > 1 ? ", " : "").append(key).append('=').append(count));
+        return string.append('}').toString();
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Find the slot of a given key, or the empty slot where it would be inserted.
+     */
+    private int indexOf(int key) {
+        var index = (key * 0x9E3779B9) >>> shift; // Fibonacci hashing spreads densely packed keys apart.
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = index + 1 & mask;
+        }
+        return index;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        counts = new long[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(mask);
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private void grow() {
+        final var oldKeys = keys;
+        final var oldCounts = counts;
+        allocate(keys.length << 1);
+
+        for (var index = 0; index < oldKeys.length; index++) {
+            if (oldKeys[index] != EMPTY) {
+                final var newIndex = indexOf(oldKeys[index]);
+                keys[newIndex] = oldKeys[index];
+                counts[newIndex] = oldCounts[index];
+            }
+        }
+    }
+
+    //==================================================================================================================
+    // Iteration Support
+    //==================================================================================================================
+
+    /**
+     * This interface defines an action performed on every key and its count of a {@link CounterMap}.
+     */
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(int key, long count);
+    }
+}
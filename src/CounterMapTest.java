@@ -0,0 +1,82 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+class CounterMapTest extends BaseUnitTest {
+    private static final int KEYS = ThreadLocalRandom.current().nextInt(1, 10_000);
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void increment_shouldCountKeysCorrectly() {
+        final var expected = new HashMap<Integer, Long>();
+        final var target = new CounterMap();
+
+        for (var index = 0; index < KEYS * 4; index++) {
+            final var key = ThreadLocalRandom.current().nextInt(KEYS) << 8; // Densely packed keys stress the hashing.
+            expected.merge(key, 1L, Long::sum);
+            target.increment(key);
+        }
+
+        assertCounts(target, expected);
+    }
+
+    @Test
+    void merge_shouldSumCountsOfBothMaps() {
+        final var expected = new HashMap<Integer, Long>();
+        final var target = new CounterMap();
+        final var other = new CounterMap(KEYS);
+
+        for (var key = 0; key < KEYS; key++) {
+            target.add(key, key);
+            other.add(key + KEYS / 2, 1L);
+            expected.merge(key, (long) key, Long::sum);
+            expected.merge(key + KEYS / 2, 1L, Long::sum);
+        }
+
+        assertCounts(target.merge(other), expected);
+    }
+
+    @Test
+    void get_givenUncountedKey_willReturnZero() {
+        final var target = new CounterMap();
+        target.increment(1);
+        assert$(target.get(2) == 0L, "Expected an uncounted key to have a count of zero");
+        assert$(target.get(-1) == 0L, "Expected a negative key to have a count of zero");
+    }
+
+    @Test
+    void add_givenNegativeKey_willThrowException() {
+        try {
+            new CounterMap().increment(-1);
+            assert$(false, "Expected an exception to be thrown");
+        } catch (IllegalArgumentException exception) {
+            // This is expected.
+        }
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static void assertCounts(CounterMap target, Map<Integer, Long> expected) {
+        final var given = new HashMap<Integer, Long>();
+        target.forEach(given::put);
+        assert$(expected.equals(given), () -> "Unexpected counts: expected=%s, given=%s".formatted(expected, given));
+        assert$(target.size() == expected.size(), "Unexpected size: " + target.size());
+        assert$(
+            target.sum() == expected.values().stream().mapToLong(Long::longValue).sum(),
+            "Unexpected sum: " + target.sum()
+        );
+    }
+}
@@ -0,0 +1,127 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * This interface saves the {@link PartialCounts} of a flow log (or a part of it) to a file, and loads them back, so
+ *   that the flow log can be tagged again using a different lookup table without counting it again, or so that the
+ *   partial results of several workers can be merged.
+ * <br/><br/>
+ *
+ * A counts file is a {@link ChecksummedFile} with the magic number {@code FLCC}, whose body consists of the following:
+ * <ul>
+ *   <li>The number of named aggregates, followed by every aggregate's name and value (since version 2)</li>
+ *   <li>The {@linkplain FlowCounts#toBytes() binary form} of the {@link FlowCounts}</li>
+ * </ul>
+ *
+ * Counts files of every earlier version can still be read.
+ */
+interface CountsFile {
+    int MAGIC = 0x464c4343; // FLCC
+    int VERSION = 2;
+
+    /**
+     * Load the {@link PartialCounts} saved to a given counts file.
+     *
+     * @param path The {@link Path} of the counts file
+     * @return The {@link PartialCounts} saved to the counts file
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while reading the
+     *                              counts file
+     * @throws IllegalArgumentException If the file is not a valid counts file (e.g., written by a newer version of the
+     *                                  program)
+     */
+    static PartialCounts read(Path path) throws UncheckedIOException, IllegalArgumentException {
+        final ChecksummedFile.Contents contents;
+        try {
+            contents = ChecksummedFile
+                .read(path, MAGIC)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid counts file: " + path));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read counts file: " + path, exception);
+        }
+
+        try {
+            final var version = contents.version();
+            if (version < 1 || version > VERSION) {
+                throw new IllegalArgumentException("Unsupported counts file version %d: %s".formatted(version, path));
+            }
+
+            final var bytes = contents.body();
+            final var aggregates = new HashMap<String, Long>();
+            for (var count = version >= 2 ? bytes.getInt() : 0; count > 0; count--) {
+                final var name = new byte[Short.toUnsignedInt(bytes.getShort())];
+                bytes.get(name);
+                aggregates.put(new String(name, StandardCharsets.UTF_8), bytes.getLong());
+            }
+            final var counts = FlowCounts.fromBytes(bytes);
+            return new PartialCounts(counts, aggregates);
+        } catch (BufferUnderflowException exception) {
+            throw new IllegalArgumentException("Invalid counts file: " + path, exception);
+        }
+    }
+
+    /**
+     * Save given {@link PartialCounts} to a counts file atomically, replacing any existing file.
+     *
+     * @param path The {@link Path} of the counts file
+     * @param partial The {@link PartialCounts} to save
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while writing the
+     *                              counts file
+     *
+     * @see ChecksummedFile#write(Path, int, int, ByteBuffer)
+     */
+    static void write(Path path, PartialCounts partial) throws UncheckedIOException {
+        final var names = new ArrayList<byte[]>();
+        final var values = new ArrayList<Long>();
+        var size = Integer.BYTES;
+        for (final var aggregate : partial.aggregates().entrySet()) {
+            names.add(aggregate.getKey().getBytes(StandardCharsets.UTF_8));
+            values.add(aggregate.getValue());
+            size += Short.BYTES + names.getLast().length + Long.BYTES;
+        }
+
+        final var counts = partial.counts().toBytes();
+        final var bytes = ByteBuffer
+            .allocate(size + counts.remaining())
+            .putInt(names.size());
+        for (var index = 0; index < names.size(); index++) {
+            bytes.putShort((short) names.get(index).length).put(names.get(index)).putLong(values.get(index));
+        }
+        bytes.put(counts).flip();
+
+        try {
+            ChecksummedFile.write(path, MAGIC, VERSION, bytes);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to write counts file: " + path, exception);
+        }
+    }
+
+    /**
+     * Load and merge the {@link PartialCounts} saved to every given counts file.
+     *
+     * @param paths The {@link Path}s of the counts files
+     * @return The merged {@link PartialCounts}
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while reading any
+     *                              counts file
+     * @throws IllegalArgumentException If any file is not a valid counts file
+     *
+     * @implNote The files are loaded in parallel (in {@link Constants#POOL}), if allowed, and every file is merged as
+     *           soon as it is loaded, so only about one file per worker is held in memory at a time regardless of the
+     *           number of files.
+     */
+    static PartialCounts merge(List<Path> paths) throws UncheckedIOException, IllegalArgumentException {
+        if (!Settings.PARALLEL) {
+            return paths.stream().map(CountsFile::read).collect(PartialCounts.merging());
+        }
+        return Utils.compute(() -> paths.parallelStream().map(CountsFile::read).collect(PartialCounts.merging()));
+    }
+}
@@ -0,0 +1,81 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+class CountsFileTest extends BaseUnitTest {
+    private static final FlowCounts COUNTS = IntStream
+        .range(0, ThreadLocalRandom.current().nextInt(1, 1000))
+        .map(row -> ProtocolKey.of(ThreadLocalRandom.current().nextInt(1 << 16), 6))
+        .boxed()
+        .collect(FlowCounts.collector(Integer::intValue));
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void read_givenWrite_willReturnEqualCounts() {
+        final var path = createTempFile(null, "");
+        CountsFile.write(path, new PartialCounts(COUNTS, Map.of("partials", 3L, "files", 5L)));
+
+        final var given = CountsFile.read(path);
+        assert$(
+            given.counts().combinations().equals(COUNTS.combinations()),
+            () -> "Unexpected combinations: expected=%s, given=%s".formatted(
+                COUNTS.combinations(),
+                given.counts().combinations()
+            )
+        );
+        assert$(
+            given.aggregates().equals(Map.of("partials", 3L, "files", 5L)),
+            () -> "Unexpected aggregates: " + given.aggregates()
+        );
+    }
+
+    @Test
+    void merge_givenManyFiles_willMergeAllCounts() {
+        final var paths = IntStream.range(0, 10).mapToObj(file -> createTempFile(null, "")).toList();
+        paths.forEach(path -> CountsFile.write(path, PartialCounts.of(COUNTS)));
+
+        final var given = CountsFile.merge(paths);
+        final var expected = new FlowCounts();
+        paths.forEach(path -> expected.merge(COUNTS));
+        assert$(
+            given.counts().combinations().equals(expected.combinations()),
+            () -> "Unexpected combinations: expected=%s, given=%s".formatted(
+                expected.combinations(),
+                given.counts().combinations()
+            )
+        );
+        assert$(
+            given.aggregates().get(PartialCounts.PARTIALS) == paths.size(),
+            () -> "Unexpected aggregates: " + given.aggregates()
+        );
+    }
+
+    @Test
+    void read_givenCorruptFile_willThrowException() throws IOException {
+        final var path = createTempFile(null, "");
+        CountsFile.write(path, PartialCounts.of(COUNTS));
+
+        final var bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(path, bytes);
+        try {
+            CountsFile.read(path);
+            assert$(false, "Expected an exception to be thrown");
+        } catch (IllegalArgumentException exception) {
+            // This is expected.
+        }
+    }
+}
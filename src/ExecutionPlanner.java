@@ -0,0 +1,219 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * This interface plans how {@link FlowLogProcessor} counts its input based on the input's size, number of files, and
+ *   compression, and on the number of available workers, instead of using the same strategy for every input (see
+ *   {@link Settings#ADAPTIVE}).
+ * <br/><br/>
+ *
+ * An {@link ExecutionPlan} is chosen as follows:
+ * <ul>
+ *   <li>Inputs smaller than {@value #SEQUENTIAL_SIZE} bytes are counted sequentially by reading their rows as usual,
+ *     since splitting them across workers would cost more than it saves.</li>
+ *   <li>Inputs containing gzip-compressed files are counted by a {@link FlowLogPipeline} (if it supports them), which
+ *     decompresses them while other threads tokenize the decompressed bytes.</li>
+ *   <li>Other inputs are memory-mapped into {@link FileChunk}s, several per worker, so that every worker stays busy
+ *     until the end.</li>
+ *   <li>Larger inputs use every worker of {@link Constants#POOL}, unless the {@link Settings#PARALLEL} setting is
+ *     disabled.</li>
+ * </ul>
+ */
+interface ExecutionPlanner {
+    /**
+     * The input size in bytes below which input is counted sequentially
+     */
+    long SEQUENTIAL_SIZE = 8L * Constants.MEBIBYTE_SCALE;
+
+    /**
+     * The assumed ratio of the decompressed size of a gzip-compressed flow log file to its size, since flow logs
+     *   (being highly repetitive) usually compress very well
+     */
+    int COMPRESSION_RATIO = 10;
+
+    /**
+     * The minimum size in bytes of the chunks (or pipeline buffers) an input is cut into
+     */
+    int MIN_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * The number of chunks planned for every worker, which evens out the workers' loads toward the end
+     */
+    int CHUNKS_PER_WORKER = 4;
+
+    /**
+     * Plan how to count given flow log files.
+     *
+     * @param readers The {@link TableFileReader}s of the flow log files to count
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while determining the
+     *                              size of any file
+     */
+    static ExecutionPlan plan(List<TableFileReader> readers) throws UncheckedIOException {
+        var size = 0L;
+        var compressed = 0;
+        var supported = !Settings.DEBUG; // The pipeline never materializes the rows to debug.
+        for (final var reader : readers) {
+            final var isGzip = reader.isGzip();
+            try {
+                size += Files.size(reader.path) * (isGzip ? COMPRESSION_RATIO : 1);
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Failed to plan execution for file: " + reader.path, exception);
+            }
+            compressed += isGzip ? 1 : 0;
+            supported &= FlowLogPipeline.supports(reader);
+        }
+        return plan(size, readers.size(), compressed, supported, Settings.PARALLEL ? Constants.PARALLELISM : 1);
+    }
+
+    /**
+     * Plan how to count a given {@link TableSupplier}'s rows that are not read from files (e.g., generated rows),
+     *   estimating their size from their number of rows if known.
+     */
+    static ExecutionPlan plan(TableSupplier input) {
+        final var size = input instanceof TableGenerator generator && generator.rows() != null
+            ? generator.rows() * Constants.FLOW_LOG_RECORD_SIZE
+            : Long.MAX_VALUE; // Assume the worst for inputs of unknown size.
+        final var parallelism = size < SEQUENTIAL_SIZE || !Settings.PARALLEL ? 1 : Constants.PARALLELISM;
+        return new ExecutionPlan(size, 0, 0, ExecutionPlan.Reader.ROWS, parallelism, 0);
+    }
+
+    /**
+     * Plan how to count an input of given characteristics.
+     *
+     * @param size The total (estimated decompressed) size in bytes of the input
+     * @param files The number of files of the input
+     * @param compressed The number of gzip-compressed files of the input
+     * @param pipelined Whether the input can be counted by a {@link FlowLogPipeline}
+     * @param workers The number of workers available for counting
+     */
+    static ExecutionPlan plan(long size, int files, int compressed, boolean pipelined, int workers) {
+        if (size < SEQUENTIAL_SIZE) {
+            return new ExecutionPlan(size, files, compressed, ExecutionPlan.Reader.ROWS, 1, 0);
+        }
+
+        final var parallelism = Math.max(workers, 1);
+        if (compressed > 0 && !pipelined) {
+            return new ExecutionPlan(size, files, compressed, ExecutionPlan.Reader.ROWS, parallelism, 0);
+        }
+
+        // Even a single worker benefits from reading bytes in chunks rather than decoding every line first.
+        final var reader = compressed > 0 ? ExecutionPlan.Reader.PIPELINE : ExecutionPlan.Reader.CHUNKS;
+        final var chunkSize = Math.clamp(
+            size / ((long) parallelism * CHUNKS_PER_WORKER),
+            MIN_CHUNK_SIZE,
+            FileChunk.CHUNK_SIZE
+        );
+        return new ExecutionPlan(size, files, compressed, reader, parallelism, chunkSize);
+    }
+
+    /**
+     * Determine whether a {@link TableGenerator} should generate the columns of every row in parallel.
+     *
+     * @param rows The number of rows generated, or {@code null} if unlimited
+     * @param columns The number of columns of every row
+     *
+     * @implNote Unless the {@link Settings#ADAPTIVE} setting is enabled, columns are generated in parallel whenever
+     *           there are at least as many as workers. Otherwise, they are only generated in parallel if the rows
+     *           themselves are too few to be counted in parallel, since nesting parallel work only adds overhead.
+     */
+    static boolean parallelColumns(Long rows, int columns) {
+        if (!Settings.ADAPTIVE) {
+            return columns >= Constants.PARALLELISM;
+        }
+        return Constants.PARALLELISM > 1
+            && columns >= Constants.PARALLELISM
+            && rows != null
+            && rows * Constants.FLOW_LOG_RECORD_SIZE < SEQUENTIAL_SIZE;
+    }
+
+    //==================================================================================================================
+    // Plan Support
+    //==================================================================================================================
+
+    /**
+     * This record is the plan for counting an input chosen by {@link ExecutionPlanner}.
+     *
+     * @param size The total size in bytes of the input (estimated for compressed files and inputs not read from
+     *             files)
+     * @param files The number of files of the input
+     * @param compressed The number of gzip-compressed files of the input
+     * @param reader How to read the input
+     * @param parallelism The number of workers to count the input with; {@code 1} to count it sequentially
+     * @param chunkSize The size in bytes of the {@link FileChunk}s or pipeline buffers to cut the input into, if any
+     */
+    record ExecutionPlan(long size, int files, int compressed, Reader reader, int parallelism, int chunkSize) {
+        /**
+         * Determine whether the input is counted in parallel.
+         */
+        boolean parallel() {
+            return parallelism > 1;
+        }
+
+        /**
+         * Determine how the counts of the workers are aggregated.
+         */
+        Aggregation aggregation() {
+            if (reader == Reader.PIPELINE) {
+                return Aggregation.PARTITIONED;
+            }
+            return parallel() ? Aggregation.PER_WORKER : Aggregation.SINGLE;
+        }
+
+        @Override
+        public String toString() {
+            return "%s[size=%.2f MiB, files=%d, compressed=%d, reader=%s, parallelism=%d, chunk=%d KiB, %s]".formatted(
+                ExecutionPlan.class.getSimpleName(),
+                size / (double) Constants.MEBIBYTE_SCALE,
+                files,
+                compressed,
+                reader,
+                parallelism,
+                chunkSize / Constants.KIBIBYTE_SCALE,
+                aggregation()
+            );
+        }
+
+        /**
+         * The ways an input can be read
+         */
+        enum Reader {
+            /**
+             * Read the input's rows as usual (e.g., line by line); see {@link TableSupplier#get(int...)}
+             */
+            ROWS,
+
+            /**
+             * Memory-map the input's files into {@link FileChunk}s of the planned size
+             */
+            CHUNKS,
+
+            /**
+             * Count the input's files using a {@link FlowLogPipeline} whose buffers are of the planned size
+             */
+            PIPELINE
+        }
+
+        /**
+         * The ways the counts of the workers can be aggregated
+         */
+        enum Aggregation {
+            /**
+             * A single worker counts every row
+             */
+            SINGLE,
+
+            /**
+             * Every worker counts into its own {@link FlowCounts}, which are merged once at the end
+             */
+            PER_WORKER,
+
+            /**
+             * Every aggregator counts its own partition of the port/protocol combinations
+             */
+            PARTITIONED
+        }
+    }
+}
@@ -0,0 +1,74 @@
+import java.util.List;
+
+class ExecutionPlannerTest extends BaseUnitTest {
+    private static final long LARGE_SIZE = 1L << 34;
+    private static final String CONTENT = "2 123 eni-1 1.1.1.1 2.2.2.2 443 25 6 1 2 3 4 ACCEPT OK\n";
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void plan_givenSmallInput_willCountSequentially() {
+        final var plan = ExecutionPlanner.plan(ExecutionPlanner.SEQUENTIAL_SIZE - 1L, 1, 0, true, 8);
+        assertPlan(plan, ExecutionPlanner.ExecutionPlan.Reader.ROWS, 1);
+        assert$(
+            plan.aggregation() == ExecutionPlanner.ExecutionPlan.Aggregation.SINGLE,
+            "Unexpected aggregation: " + plan
+        );
+    }
+
+    @Test
+    void plan_givenLargeUncompressedInput_willReadChunksInParallel() {
+        final var plan = ExecutionPlanner.plan(LARGE_SIZE, 1, 0, true, 8);
+        assertPlan(plan, ExecutionPlanner.ExecutionPlan.Reader.CHUNKS, 8);
+        assert$(plan.chunkSize() == FileChunk.CHUNK_SIZE, "Unexpected chunk size: " + plan);
+    }
+
+    @Test
+    void plan_givenMediumUncompressedInput_willPlanSeveralChunksPerWorker() {
+        final var size = ExecutionPlanner.SEQUENTIAL_SIZE * 2L;
+        final var plan = ExecutionPlanner.plan(size, 1, 0, true, 8);
+        assert$(
+            size / plan.chunkSize() >= 8L * ExecutionPlanner.CHUNKS_PER_WORKER
+                || plan.chunkSize() == ExecutionPlanner.MIN_CHUNK_SIZE,
+            "Unexpected chunk size: " + plan
+        );
+    }
+
+    @Test
+    void plan_givenCompressedInput_willUsePipelineIfSupported() {
+        assertPlan(ExecutionPlanner.plan(LARGE_SIZE, 2, 1, true, 4), ExecutionPlanner.ExecutionPlan.Reader.PIPELINE, 4);
+        assertPlan(ExecutionPlanner.plan(LARGE_SIZE, 2, 1, false, 4), ExecutionPlanner.ExecutionPlan.Reader.ROWS, 4);
+    }
+
+    @Test
+    void plan_givenFiles_willSumTheirSizes() {
+        final var paths = List.of(createTempFile(null, CONTENT), createTempFile(null, CONTENT));
+        final var plan = ExecutionPlanner.plan(paths.stream().map(TableFileReader::new).toList());
+        assert$(plan.files() == 2 && plan.size() == 2L * CONTENT.length(), "Unexpected plan: " + plan);
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static void assertPlan(
+        ExecutionPlanner.ExecutionPlan plan,
+        ExecutionPlanner.ExecutionPlan.Reader reader,
+        int parallelism
+    ) {
+        assert$(
+            plan.reader() == reader && plan.parallelism() == parallelism,
+            () -> "Unexpected plan: expected=%s/%d, given=%s".formatted(reader, parallelism, plan)
+        );
+    }
+}
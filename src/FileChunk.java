@@ -0,0 +1,356 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * This record is a newline-aligned region of a file that can be read independently of the rest of the file, allowing a
+ *   single large file to be read concurrently by splitting it into many {@link FileChunk}s.
+ *
+ * @param bytes The bytes of the region of the file; every line contained within it is complete
+ *
+ * @implNote {@link FileChunk}s are created by {@linkplain FileChannel#map(FileChannel.MapMode, long, long)
+ *           memory-mapping} a file in large regions, and then cutting every region into smaller chunks at newline
+ *           boundaries. Only bytes are ever split; lines are decoded lazily by whichever thread reads the chunk.
+ */
+record FileChunk(ByteBuffer bytes) {
+    /**
+     * The maximum size in bytes of a single memory-mapped region; this cannot exceed {@link Integer#MAX_VALUE}
+     */
+    static final long REGION_SIZE = 1L << 30;
+
+    /**
+     * The approximate size in bytes of a single chunk cut from a memory-mapped region
+     */
+    static final int CHUNK_SIZE = 1 << 23;
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    //==================================================================================================================
+    // Factory Methods
+    //==================================================================================================================
+
+    /**
+     * Memory-map a given {@link Path}'s file into newline-aligned {@link FileChunk}s.
+     *
+     * @param path The {@link Path} of the file to memory-map
+     * @param skipFirstLine Whether the first line of the file (i.e., the header row) should be excluded
+     * @return An array of {@link FileChunk}s covering the file in order
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while mapping the
+     *                              file
+     */
+    static FileChunk[] map(Path path, boolean skipFirstLine) throws UncheckedIOException {
+        return map(path, skipFirstLine, REGION_SIZE, CHUNK_SIZE);
+    }
+
+    /**
+     * Memory-map a given {@link Path}'s file into newline-aligned {@link FileChunk}s using a given region and chunk
+     *   size.
+     *
+     * @param path The {@link Path} of the file to memory-map
+     * @param skipFirstLine Whether the first line of the file (i.e., the header row) should be excluded
+     * @param regionSize The maximum size in bytes of a single memory-mapped region
+     * @param chunkSize The approximate size in bytes of a single chunk cut from a memory-mapped region
+     * @return An array of {@link FileChunk}s covering the file in order
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while mapping the
+     *                              file
+     */
+    static FileChunk[] map(
+        Path path,
+        boolean skipFirstLine,
+        long regionSize,
+        int chunkSize
+    ) throws UncheckedIOException {
+        // The mappings remain valid after the channel is closed, so we don't need to hold onto it.
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var chunks = new ArrayList<FileChunk>();
+            map(channel, 0L, channel.size(), skipFirstLine, true, regionSize, chunkSize, chunks);
+            return chunks.toArray(FileChunk[]::new);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to map file for reading: " + path, exception);
+        }
+    }
+
+    /**
+     * Memory-map the lines of a given {@link FileChannel}'s file between two given positions into newline-aligned
+     *   {@link FileChunk}s, such as only the lines appended to a file since it was last read.
+     *
+     * @param channel The {@link FileChannel} of the file to memory-map
+     * @param position The position within the file to start mapping from; this must be the start of a line
+     * @param size The position within the file to stop mapping at (e.g., the size of the file)
+     * @param skipFirstLine Whether the first line following {@code position} (i.e., the header row) should be excluded
+     * @param includeLastLine Whether the last line should be included even if it is not terminated (i.e., the file is
+     *                        complete); otherwise, it is left unmapped since it may still be partially written
+     * @param regionSize The maximum size in bytes of a single memory-mapped region
+     * @param chunkSize The approximate size in bytes of a single chunk cut from a memory-mapped region
+     * @param chunks The {@link Collection} to add the mapped {@link FileChunk}s to, in order
+     * @return The position immediately following the last line mapped (or skipped), from which mapping should be
+     *         resumed once more lines have been appended to the file
+     *
+     * @throws IOException If an I/O error occurs while mapping the file
+     */
+    static long map(
+        FileChannel channel,
+        long position,
+        long size,
+        boolean skipFirstLine,
+        boolean includeLastLine,
+        long regionSize,
+        int chunkSize,
+        Collection<FileChunk> chunks
+    ) throws IOException {
+        while (position < size) {
+            final var length = Math.min(regionSize, size - position);
+            final var region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            final var isLastRegion = position + length >= size;
+
+            final var start = skipFirstLine ? nextLine(region, 0) : 0;
+            if (start == length && isLastRegion && !includeLastLine && region.get(start - 1) != LINE_FEED) {
+                break; // The header row is still incomplete, so it can't be skipped yet.
+            }
+
+            final var end = split(region, start, isLastRegion && includeLastLine, chunkSize, chunks);
+            if (end == 0) {
+                if (!isLastRegion) {
+                    throw new IllegalStateException("A line exceeds the maximum memory-mapped region size: " + length);
+                }
+                break; // The remaining bytes are an incomplete line.
+            }
+
+            position += end;
+            skipFirstLine = false;
+        }
+        return position;
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Read this {@link FileChunk} lazily into a {@link Stream} of lines.
+     *
+     * @apiNote Lines are terminated by either a line feed ({@code \n}) or a carriage return followed by a line feed
+     *          ({@code \r\n}), similar to {@link java.nio.file.Files#lines(Path)}.
+     */
+    Stream<String> lines() {
+        return Utils.stream(new LineSpliterator(bytes.duplicate()));
+    }
+
+    /**
+     * Read this {@link FileChunk} lazily into a {@link Stream} of rows containing only a given projection of columns,
+     *   which are decoded directly from bytes.
+     *
+     * @param separator The single-byte column separator; see {@link RowTokenizer#supports(String)}
+     * @param columns The indexes of the columns to decode; every other column of the returned rows is {@code null}
+     *
+     * @see RowTokenizer
+     */
+    Stream<String[]> rows(char separator, int... columns) {
+        final var tokenizer = new RowTokenizer(bytes.duplicate(), (byte) separator, columns);
+        return Utils.stream(new RowSpliterator(tokenizer, columns));
+    }
+
+    /**
+     * Retrieve the size of this {@link FileChunk} in bytes.
+     */
+    int size() {
+        return bytes.remaining();
+    }
+
+    //==================================================================================================================
+    // Package-private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Find the position immediately following the end of the line containing a given position within a given
+     *   {@link ByteBuffer}.
+     *
+     * @param bytes The {@link ByteBuffer} to search
+     * @param position The position within the given {@link ByteBuffer} to start searching from
+     * @return The position immediately following the next line feed, or the {@linkplain ByteBuffer#limit() limit} of
+     *         the given {@link ByteBuffer} if there is none
+     */
+    static int nextLine(ByteBuffer bytes, int position) {
+        final var limit = bytes.limit();
+        while (position < limit) {
+            if (bytes.get(position++) == LINE_FEED) {
+                return position;
+            }
+        }
+        return limit;
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Cut a given memory-mapped region into newline-aligned {@link FileChunk}s.
+     *
+     * @param region The memory-mapped region to cut
+     * @param start The position within the region to start cutting from
+     * @param isLastRegion Whether the region contains the end of the file, where the last line may not be terminated
+     * @param chunkSize The approximate size in bytes of a single chunk
+     * @param chunks The {@link Collection} to add the cut {@link FileChunk}s to
+     * @return The number of bytes of the region that was cut into {@link FileChunk}s; any remaining bytes belong to an
+     *         incomplete line that must be read as part of the next region
+     */
+    private static int split(
+        ByteBuffer region,
+        int start,
+        boolean isLastRegion,
+        int chunkSize,
+        Collection<FileChunk> chunks
+    ) {
+        final var limit = region.limit();
+
+        while (start < limit) {
+            final var end = nextLine(region, (int) Math.min((long) start + chunkSize, limit) - 1);
+            if (end == limit && !isLastRegion && region.get(limit - 1) != LINE_FEED) {
+                // The remaining bytes end with an incomplete line; leave it for the next region.
+                var lastLine = limit - 1;
+                while (lastLine > start && region.get(lastLine - 1) != LINE_FEED) {
+                    lastLine--;
+                }
+                if (lastLine > start) {
+                    chunks.add(new FileChunk(region.slice(start, lastLine - start)));
+                    start = lastLine;
+                }
+                break;
+            }
+
+            chunks.add(new FileChunk(region.slice(start, end - start)));
+            start = end;
+        }
+        return start;
+    }
+
+    //==================================================================================================================
+    // Spliterator Support
+    //==================================================================================================================
+
+    /**
+     * This class is a {@link Spliterator} that decodes lines from a {@link ByteBuffer} one at a time.
+     *
+     * @implNote This {@link Spliterator} does not split; {@link FileChunk}s are the unit of parallelism instead.
+     */
+    private static final class LineSpliterator extends Spliterators.AbstractSpliterator<String> {
+        private final ByteBuffer bytes;
+        private byte[] buffer = new byte[1 << 8];
+
+        //==============================================================================================================
+        // Constructors
+        //==============================================================================================================
+
+        private LineSpliterator(ByteBuffer bytes) {
+            super(bytes.remaining(), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            this.bytes = bytes;
+        }
+
+        //==============================================================================================================
+        // Spliterator Implementation Methods
+        //==============================================================================================================
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            final var start = bytes.position();
+            if (start >= bytes.limit()) {
+                return false;
+            }
+
+            final var next = nextLine(bytes, start);
+            var end = next;
+            if (end > start && bytes.get(end - 1) == LINE_FEED) {
+                end--;
+            }
+            if (end > start && bytes.get(end - 1) == CARRIAGE_RETURN) {
+                end--;
+            }
+
+            final var length = end - start;
+            if (length > buffer.length) {
+                buffer = new byte[Integer.highestOneBit(length) << 1];
+            }
+            bytes.get(start, buffer, 0, length);
+            bytes.position(next);
+            action.accept(new String(buffer, 0, length, StandardCharsets.UTF_8));
+            return true;
+        }
+    }
+
+    /**
+     * This class is a {@link Spliterator} that decodes a projection of columns from a {@link RowTokenizer}'s rows one
+     *   at a time, or a batch at a time while metrics are recorded (see {@link Metrics#BATCH_SIZE}).
+     */
+    private static final class RowSpliterator extends Spliterators.AbstractSpliterator<String[]> {
+        private final RowTokenizer tokenizer;
+        private final int[] columns;
+        private final int width;
+        private final String[][] batch = new String[Metrics.BATCH_SIZE][];
+        private int size;
+        private int index;
+
+        //==============================================================================================================
+        // Constructors
+        //==============================================================================================================
+
+        private RowSpliterator(RowTokenizer tokenizer, int... columns) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.tokenizer = tokenizer;
+            this.columns = columns;
+            width = Arrays.stream(columns).max().orElse(-1) + 1;
+        }
+
+        //==============================================================================================================
+        // Spliterator Implementation Methods
+        //==============================================================================================================
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String[]> action) {
+            if (index == size && !fill()) {
+                return false;
+            }
+            action.accept(batch[index]);
+            batch[index++] = null;
+            return true;
+        }
+
+        //==============================================================================================================
+        // Private Helper Methods
+        //==============================================================================================================
+
+        /**
+         * Decode the next batch of rows, timing them together.
+         *
+         * @return Whether any rows were decoded
+         */
+        private boolean fill() {
+            final var startTime = Metrics.start();
+            index = 0;
+            size = 0;
+            while (size < batch.length && tokenizer.next()) {
+                final var row = new String[width];
+                for (final var column : columns) {
+                    row[column] = tokenizer.string(column);
+                }
+                batch[size++] = row;
+            }
+            Metrics.stop(Metrics.Stage.TOKENIZE, startTime, size);
+            return size > 0;
+        }
+    }
+}
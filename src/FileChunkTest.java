@@ -0,0 +1,117 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class FileChunkTest extends BaseUnitTest {
+    private static final long ROWS = ThreadLocalRandom.current().nextLong(1L, 1000L);
+    private static final Path PATH = createTempFile(null, content());
+    private static final List<String> LINES = readAllLines();
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void map_shouldReadAllLinesInOrder() {
+        assertLines(FileChunk.map(PATH, false), LINES);
+    }
+
+    @Test
+    void map_givenSmallRegionsAndChunks_willReadAllLinesInOrder() {
+        assertLines(FileChunk.map(PATH, false, 1L << 10, 1 << 6), LINES);
+    }
+
+    @Test
+    void map_givenSkipFirstLine_willSkipHeaderRow() {
+        assertLines(FileChunk.map(PATH, true, 1L << 10, 1 << 6), LINES.subList(1, LINES.size()));
+    }
+
+    @Test
+    void map_shouldCutChunksAtNewlineBoundaries() {
+        final var chunks = FileChunk.map(PATH, false, 1L << 10, 1 << 6);
+        for (var index = 0; index < chunks.length - 1; index++) { // The last line of the file is unterminated.
+            final var bytes = chunks[index].bytes();
+            final var lastByte = bytes.get(bytes.limit() - 1);
+            assert$(lastByte == '\n', "Expected chunk to end with a line feed: " + lastByte);
+        }
+    }
+
+    @Test
+    void map_givenExcludedLastLine_willReturnPositionOfIncompleteLastLine() throws IOException {
+        try (var channel = FileChannel.open(PATH, StandardOpenOption.READ)) {
+            final var chunks = new ArrayList<FileChunk>();
+            final var position = FileChunk.map(channel, 0L, channel.size(), false, false, 1L << 10, 1 << 6, chunks);
+            final var expected = channel.size() - LINES.get(LINES.size() - 1).length();
+            assert$(position == expected, "Unexpected position: expected=%d, given=%d".formatted(expected, position));
+            assertLines(chunks.toArray(FileChunk[]::new), LINES.subList(0, LINES.size() - 1));
+        }
+    }
+
+    @Test
+    void rows_shouldDecodeProjectedColumnsOnly() {
+        final var expected = LINES.stream().map(line -> new String[] {null, line.split(",", -1)[1]}).toList();
+        final var given = Stream.of(FileChunk.map(PATH, false, 1L << 10, 1 << 6)).flatMap(chunk -> chunk.rows(',', 1)).toList();
+        assert$(
+            equals(given.toArray(), expected.toArray()),
+            () -> "Unexpected rows: expected=%s, given=%s".formatted(toString(expected.toArray()), toString(given.toArray()))
+        );
+    }
+
+    @Test
+    void read_givenMappedChunks_willReadSameRowsAsLines() {
+        final var reader = new TableFileReader(PATH, ",", true);
+        final var chunks = List.of(FileChunk.map(PATH, true));
+        try (var rows = reader.get(); var mappedRows = reader.read(chunks).get()) {
+            final var expected = rows.map(row -> String.join(",", row)).collect(Collectors.toSet());
+            final var given = mappedRows.parallel().map(row -> String.join(",", row)).collect(Collectors.toSet());
+            assert$(expected.equals(given), () -> "Unexpected rows: expected=%s, given=%s".formatted(expected, given));
+        }
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static void assertLines(FileChunk[] chunks, List<String> expected) {
+        final var given = Stream.of(chunks).flatMap(FileChunk::lines).toList();
+        assert$(expected.equals(given), () -> "Unexpected lines: expected=%s, given=%s".formatted(expected, given));
+    }
+
+    private static String content() {
+        // Mix line terminators and leave the last line unterminated to exercise every edge case.
+        final var random = ThreadLocalRandom.current();
+        final var content = new StringBuilder("header,row");
+        for (var row = 0L; row < ROWS; row++) {
+            content
+                .append(random.nextBoolean() ? "\n" : "\r\n")
+                .append(row)
+                .append(',')
+                .append("x".repeat(random.nextInt(100)));
+        }
+        return content.toString();
+    }
+
+    private static List<String> readAllLines() {
+        try {
+            return Files.readAllLines(PATH);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read temporary file for testing", exception);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+/**
+ * This class accumulates the port/protocol combination counts of a flow log.
+ * <br/><br/>
+ *
+ * Every worker thread processing a flow log owns its own {@link FlowCounts}, so counting requires neither atomic
+ *   operations nor shared hash bins; the partial {@link FlowCounts} of every worker are
+ *   {@linkplain #merge(FlowCounts) merged} once at the end.
+ *
+ * Tag counts are not accumulated; every tag is a function of its port/protocol combination, so they are derived from
+ *   the (far fewer) combination counts once counting is complete instead. See {@link #tags(TagClassifier, String)}.
+ *
+ * @implNote Instances of this class are not thread-safe.
+ */
+final class FlowCounts {
+    private static final int PACKED_ENTRY_SIZE = Integer.BYTES + Long.BYTES;
+
+    private final CounterMap combinations = new CounterMap();
+
+    //==================================================================================================================
+    // Factory Methods
+    //==================================================================================================================
+
+    /**
+     * Construct a {@link Collector} that accumulates elements into thread-confined {@link FlowCounts}.
+     *
+     * @param keyer The {@link ToIntFunction} to use to retrieve the {@link ProtocolKey} of an element
+     * @param <T> The type of elements to accumulate
+     *
+     * @implNote The returned {@link Collector} is deliberately not {@linkplain Collector.Characteristics#CONCURRENT
+     *           concurrent}; a parallel {@link java.util.stream.Stream} gives every one of its tasks a new
+     *           {@link FlowCounts} and merges them as the tasks complete. While metrics are recorded, the keys are
+     *           counted in batches of {@link Metrics#BATCH_SIZE} so that every batch is timed once.
+     */
+    static <T> Collector<T, ?, FlowCounts> collector(ToIntFunction<? super T> keyer) {
+        if (Metrics.ENABLED) {
+            return Collector.of(
+                Batch::new,
+                (batch, element) -> batch.add(keyer.applyAsInt(element)),
+                Batch::merge,
+                Batch::flush,
+                Collector.Characteristics.UNORDERED
+            );
+        }
+
+        return Collector.of(
+            FlowCounts::new,
+            (counts, element) -> counts.add(keyer.applyAsInt(element)),
+            FlowCounts::merge,
+            Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    /**
+     * Deserialize {@link FlowCounts} from their compact binary form.
+     *
+     * @param bytes The {@link ByteBuffer} to read the binary form from, starting at its position; its position is
+     *              advanced past the binary form
+     * @return The deserialized {@link FlowCounts}
+     *
+     * @throws IllegalArgumentException If the given bytes are not a valid binary form of {@link FlowCounts}
+     *
+     * @see #toBytes()
+     */
+    static FlowCounts fromBytes(ByteBuffer bytes) throws IllegalArgumentException {
+        try {
+            final var size = bytes.getInt();
+            if (size < 0 || size > bytes.remaining() / PACKED_ENTRY_SIZE) {
+                throw new IllegalArgumentException("Invalid combination count: " + size);
+            }
+
+            final var counts = new FlowCounts();
+            for (var entry = 0; entry < size; entry++) {
+                var key = bytes.getInt();
+                if (key == ProtocolKey.UNPACKABLE) {
+                    key = ProtocolKey.of(Protocol.of(getString(bytes), getString(bytes)));
+                } else if (!ProtocolKey.isPacked(key)) {
+                    throw new IllegalArgumentException("Invalid combination key: " + key);
+                }
+
+                final var count = bytes.getLong();
+                if (count <= 0L) {
+                    throw new IllegalArgumentException("Invalid count of combination %d: %d".formatted(key, count));
+                }
+                counts.combinations.add(key, count);
+            }
+            return counts;
+        } catch (BufferUnderflowException exception) {
+            throw new IllegalArgumentException("Truncated flow counts", exception);
+        }
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Count a single row with a given {@link ProtocolKey}.
+     *
+     * @param key The {@link ProtocolKey} of the row
+     */
+    void add(int key) {
+        combinations.increment(key);
+    }
+
+    /**
+     * Add every count of a given {@link FlowCounts} to this {@link FlowCounts}.
+     *
+     * @param other The {@link FlowCounts} whose counts to add
+     * @return This {@link FlowCounts} for chaining
+     */
+    FlowCounts merge(FlowCounts other) {
+        combinations.merge(other.combinations);
+        return this;
+    }
+
+    /**
+     * Serialize the port/protocol combination counts of this {@link FlowCounts} into a compact binary form, which
+     *   consists of the number of combinations followed by every combination and its count.
+     * <br/><br/>
+     *
+     * Packed {@link ProtocolKey}s are written as is. Dictionary keys are only meaningful within the current JVM, so
+     *   their {@link Protocol}'s port and name are written instead, prefixed by {@link ProtocolKey#UNPACKABLE}.
+     *
+     * @return A {@link ByteBuffer} containing the binary form, ready to be read
+     *
+     * @apiNote Tag counts are not serialized; they can be derived again from the deserialized combination counts
+     *          using any {@link TagClassifier}.
+     * @see #fromBytes(ByteBuffer)
+     */
+    ByteBuffer toBytes() {
+        final var protocols = new HashMap<Integer, byte[][]>();
+        final var size = new int[] {Integer.BYTES};
+        combinations.forEach((key, count) -> {
+            size[0] += PACKED_ENTRY_SIZE;
+            if (!ProtocolKey.isPacked(key)) {
+                final var protocol = ProtocolKey.toProtocol(key);
+                final var strings = new byte[][] {toBytes(protocol.port()), toBytes(protocol.name())};
+                protocols.put(key, strings);
+                size[0] += Short.BYTES * 2 + strings[0].length + strings[1].length;
+            }
+        });
+
+        final var bytes = ByteBuffer.allocate(size[0]).putInt(combinations.size());
+        combinations.forEach((key, count) -> {
+            final var strings = protocols.get(key);
+            if (strings == null) {
+                bytes.putInt(key);
+            } else {
+                bytes.putInt(ProtocolKey.UNPACKABLE);
+                bytes.putShort((short) strings[0].length).put(strings[0]);
+                bytes.putShort((short) strings[1].length).put(strings[1]);
+            }
+            bytes.putLong(count);
+        });
+        return bytes.flip();
+    }
+
+    /**
+     * Retrieve the number of rows counted.
+     */
+    long rows() {
+        return combinations.sum();
+    }
+
+    /**
+     * Retrieve the port/protocol combination counts, resolving every {@link ProtocolKey} into its {@link Protocol}.
+     *
+     * @implNote This is the only point where {@link Protocol}s are created for the combination counts.
+     */
+    Map<Protocol, Long> combinations() {
+        final var combinations = new HashMap<Protocol, Long>(this.combinations.size() * 2);
+        this.combinations.forEach((key, count) -> combinations.merge(ProtocolKey.toProtocol(key), count, Long::sum));
+        return combinations;
+    }
+
+    /**
+     * Derive the tag counts from the port/protocol combination counts.
+     *
+     * @param classifier The {@link TagClassifier} to use to classify every {@link ProtocolKey} into its tag
+     * @param defaultTag The tag to use for {@link ProtocolKey}s without a tag
+     * @return The tag counts; these are identical to counting the tag of every row individually
+     */
+    Map<String, Long> tags(TagClassifier classifier, String defaultTag) {
+        final var tags = new HashMap<String, Long>();
+        combinations.forEach((key, count) -> tags.merge(classifier.getOrDefault(key, defaultTag), count, Long::sum));
+        return tags;
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Encode a given {@link String} of at most {@code 65535} bytes in UTF-8.
+     */
+    private static byte[] toBytes(String string) {
+        final var bytes = string.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Character.MAX_VALUE) {
+            throw new IllegalArgumentException("Value is too long to serialize: " + string);
+        }
+        return bytes;
+    }
+
+    /**
+     * Decode a UTF-8 {@link String} prefixed by its length in bytes from a given {@link ByteBuffer}.
+     */
+    private static String getString(ByteBuffer bytes) {
+        final var string = new byte[Short.toUnsignedInt(bytes.getShort())];
+        bytes.get(string);
+        return new String(string, StandardCharsets.UTF_8);
+    }
+
+    //==================================================================================================================
+    // Object Implementation Methods
+    //==================================================================================================================
+
+    @Override
+    public String toString() {
+        return "%s[combinations=%s]".formatted(super.toString(), combinations);
+    }
+
+    //==================================================================================================================
+    // Batch Support
+    //==================================================================================================================
+
+    /**
+     * This class buffers the keys counted into {@link FlowCounts} and counts them a batch at a time, timing every batch
+     *   as {@link Metrics.Stage#AGGREGATE}; see {@link #collector(ToIntFunction)}.
+     *
+     * @implNote Instances of this class are not thread-safe.
+     */
+    private static final class Batch {
+        private final FlowCounts counts = new FlowCounts();
+        private final int[] keys = new int[Metrics.BATCH_SIZE];
+        private int size;
+
+        private void add(int key) {
+            keys[size++] = key;
+            if (size == keys.length) {
+                flush();
+            }
+        }
+
+        private Batch merge(Batch other) {
+            counts.merge(other.flush());
+            return this;
+        }
+
+        private FlowCounts flush() {
+            final var startTime = Metrics.start();
+            for (var index = 0; index < size; index++) {
+                counts.add(keys[index]);
+            }
+            Metrics.stop(Metrics.Stage.AGGREGATE, startTime, size);
+            size = 0;
+            return counts;
+        }
+    }
+}
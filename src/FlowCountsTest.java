@@ -0,0 +1,115 @@
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class FlowCountsTest extends BaseUnitTest {
+    private static final int ROWS = ThreadLocalRandom.current().nextInt(1, 10_000);
+    private static final int[] PORTS = {22, 23, 25, 443, 49153};
+    private static final int[] NUMBERS = {1, 6, 17};
+    private static final Tags TAGS =
+        new Tags(() -> Stream.of(
+            "23,tcp,sv_P1".split(","),
+            "25,tcp,sv_P1".split(",")
+        ));
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void collector_shouldCountCombinationsCorrectly() {
+        final var keys = randomKeys();
+        final var expected = IntStream
+            .of(keys)
+            .boxed()
+            .collect(Collectors.groupingBy(ProtocolKey::toProtocol, Collectors.counting()));
+        final var given = IntStream
+            .of(keys)
+            .boxed()
+            .parallel() // Test correctness under concurrency.
+            .collect(FlowCounts.collector(Integer::intValue));
+
+        assert$(
+            expected.equals(given.combinations()),
+            () -> "Unexpected combinations: expected=%s, given=%s".formatted(expected, given.combinations())
+        );
+        assert$(given.rows() == ROWS, "Unexpected row count: expected=%d, given=%d".formatted(ROWS, given.rows()));
+    }
+
+    @Test
+    void tags_shouldEqualCountingTagOfEveryRow() {
+        final var keys = randomKeys();
+        final var expected = IntStream
+            .of(keys)
+            .mapToObj(ProtocolKey::toProtocol)
+            .collect(Collectors.groupingBy(FlowCountsTest::getTag, Collectors.counting()));
+        final Map<String, Long> given = IntStream
+            .of(keys)
+            .boxed()
+            .collect(FlowCounts.collector(Integer::intValue))
+            .tags(TAGS.compile(), "Untagged");
+
+        assert$(expected.equals(given), () -> "Unexpected tags: expected=%s, given=%s".formatted(expected, given));
+    }
+
+    @Test
+    void fromBytes_givenToBytes_willReturnEqualCounts() {
+        final var expected = IntStream.of(randomKeys()).boxed().collect(FlowCounts.collector(Integer::intValue));
+        final var expectedCombinations = expected.combinations();
+        final var givenCombinations = FlowCounts.fromBytes(expected.toBytes()).combinations();
+        assert$(
+            expectedCombinations.equals(givenCombinations),
+            () -> "Unexpected combinations: expected=%s, given=%s".formatted(expectedCombinations, givenCombinations)
+        );
+    }
+
+    @Test
+    void fromBytes_givenDictionaryKeys_willReturnEqualCounts() {
+        final var expected = Stream
+            .of(ProtocolKey.of("-", "-"), ProtocolKey.of("0443", "6"), ProtocolKey.of("x", "17"), ProtocolKey.of(22, 6))
+            .collect(FlowCounts.collector(Integer::intValue));
+        final var expectedCombinations = expected.combinations();
+        final var givenCombinations = FlowCounts.fromBytes(expected.toBytes()).combinations();
+        assert$(
+            expectedCombinations.equals(givenCombinations),
+            () -> "Unexpected combinations: expected=%s, given=%s".formatted(expectedCombinations, givenCombinations)
+        );
+    }
+
+    @Test
+    void fromBytes_givenTruncatedBytes_willThrowException() {
+        final var bytes = IntStream.of(randomKeys()).boxed().collect(FlowCounts.collector(Integer::intValue)).toBytes();
+        try {
+            FlowCounts.fromBytes(bytes.limit(bytes.limit() - 1));
+            assert$(false, "Expected an exception to be thrown");
+        } catch (IllegalArgumentException exception) {
+            // This is expected.
+        }
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static int[] randomKeys() {
+        final var random = ThreadLocalRandom.current();
+        return IntStream
+            .range(0, ROWS)
+            .map(row -> ProtocolKey.of(PORTS[random.nextInt(PORTS.length)], NUMBERS[random.nextInt(NUMBERS.length)]))
+            .toArray();
+    }
+
+    private static String getTag(Protocol protocol) {
+        return TAGS.getOrDefault(protocol, "Untagged");
+    }
+}
@@ -0,0 +1,191 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * This class follows a flow log file that is being appended to (similar to {@code tail -f}), counting only the newly
+ *   appended lines and periodically publishing the updated totals.
+ * <br/><br/>
+ *
+ * The position up to which the file has been read is tracked, so every read only memory-maps and counts the complete
+ *   lines appended since the previous read; the cost of a read grows with the new data rather than the size of the
+ *   file. A {@link java.nio.file.WatchService WatchService} wakes the follower as soon as the file changes, and the
+ *   file is also checked at least once every {@link Settings#FOLLOW_INTERVAL} milliseconds in case a change goes
+ *   unnoticed.
+ * <br/><br/>
+ *
+ * If the file is truncated or replaced (e.g., rotated), it is read again from its start, and its rows are added to the
+ *   existing totals.
+ *
+ * @implNote Instances of this class are not thread-safe.
+ */
+final class FlowLogFollower implements Runnable {
+    private final Path path;
+    private final Supplier<? extends TableConsumer> outputs;
+    private final FlowLogProcessor processor;
+    private final FlowCounts counts = new FlowCounts();
+    private TableFileReader reader;
+    private Object fileKey;
+    private long position;
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    /**
+     * Construct an instance of {@link FlowLogFollower} that follows a given {@link Path}'s flow log file.
+     *
+     * @param path The {@link Path} of the flow log file to follow; it does not need to exist yet
+     * @param tags The {@link Tags} to use for tagging the flow log; may be {@code null} to use {@link Constants#TAGS}
+     * @param outputs The {@link Supplier} of the {@link TableConsumer} to publish the updated totals to every time;
+     *                every {@link TableConsumer} supplied is released after publishing
+     */
+    FlowLogFollower(Path path, Tags tags, Supplier<? extends TableConsumer> outputs) {
+        this.path = Objects.requireNonNull(path);
+        this.outputs = Objects.requireNonNull(outputs);
+        processor = new FlowLogProcessor(TableSupplier.NOOP, tags, TableConsumer.NOOP);
+    }
+
+    //==================================================================================================================
+    // Runnable Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Follow the flow log file until the current thread is interrupted, publishing the totals whenever new lines have
+     *   been counted but at most once every {@link Settings#FOLLOW_INTERVAL} milliseconds.
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while watching or
+     *                              reading the file
+     */
+    @Override
+    public void run() throws UncheckedIOException {
+        final var directory = path.toAbsolutePath().getParent();
+        final var interval = TimeUnit.MILLISECONDS.toNanos(Settings.FOLLOW_INTERVAL);
+        Loggers.INFO.accept("[%] Following flow log: " + path);
+
+        var changed = false;
+        try (var watcher = directory.getFileSystem().newWatchService()) {
+            directory.register(
+                watcher,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE
+            );
+
+            changed = read();
+            for (var publishTime = System.nanoTime() - interval; !Thread.currentThread().isInterrupted(); ) {
+                if (changed && System.nanoTime() - publishTime >= interval) {
+                    publish();
+                    publishTime = System.nanoTime();
+                    changed = false;
+                }
+
+                // Any event within the directory is only a hint to read; the tracked position decides what is new.
+                final var key = watcher.poll(Settings.FOLLOW_INTERVAL, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    key.pollEvents();
+                    key.reset();
+                }
+                changed |= read();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to watch file: " + path, exception);
+        } finally {
+            if (changed) {
+                publish(); // Do not lose the lines counted since the last publication.
+            }
+            Loggers.INFO.accept("[%] Stopped following flow log: " + path);
+        }
+    }
+
+    //==================================================================================================================
+    // Package-private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Count the complete lines appended to the flow log file since the previous read.
+     *
+     * @return Whether any new lines were counted
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while reading the
+     *                              file
+     */
+    boolean read() throws UncheckedIOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var size = channel.size();
+            final var fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+            if (size < position || !Objects.equals(fileKey, this.fileKey)) {
+                if (position > 0L) {
+                    Loggers.INFO.accept("[!] Flow log was truncated or replaced; reading it from its start: " + path);
+                }
+                this.fileKey = fileKey;
+                position = 0L;
+                reader = null;
+            }
+            if (size == position) {
+                return false;
+            }
+
+            // Infer the column separator and header row only once the file has some content.
+            final var reader = Objects.requireNonNullElseGet(this.reader, () -> new TableFileReader(path));
+            final var chunks = new ArrayList<FileChunk>();
+            final var end = FileChunk.map(
+                channel,
+                position,
+                size,
+                position == 0L && reader.hasHeaderRow,
+                false, // The last line may still be partially written.
+                FileChunk.REGION_SIZE,
+                FileChunk.CHUNK_SIZE,
+                chunks
+            );
+            if (end == position) {
+                return false; // Infer the column separator and header row again once the first line is complete.
+            }
+
+            counts.merge(processor.toCounts(reader.read(chunks)));
+            this.reader = reader;
+            position = end;
+            return !chunks.isEmpty();
+        } catch (NoSuchFileException exception) {
+            return false; // The file may not have been created yet, or may be in the middle of being rotated.
+        } catch (ClosedByInterruptException exception) {
+            return false; // The current thread was interrupted to stop following the file.
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read file: " + path, exception);
+        }
+    }
+
+    /**
+     * Publish the current totals to a new {@link TableConsumer}.
+     */
+    void publish() {
+        final var output = outputs.get();
+        try {
+            processor.write(counts, output);
+        } finally {
+            Utils.releaseResources(output);
+        }
+        Loggers.INFO.accept("[<] Published flow log counts at position %d: %s".formatted(position, path));
+    }
+
+    /**
+     * Retrieve the current totals of this {@link FlowLogFollower}.
+     */
+    FlowCounts counts() {
+        return counts;
+    }
+}
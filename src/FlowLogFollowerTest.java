@@ -0,0 +1,124 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+class FlowLogFollowerTest extends BaseUnitTest {
+    private static final String HEADER =
+        "version account-id interface-id srcaddr dstaddr srcport dstport protocol packets bytes start end action status\n";
+    private static final String ROW =
+        "2 123456789012 eni-1a2b3c4d 10.0.1.102 172.217.7.228 1030 443 6 8 4000 1620140661 1620140721 ACCEPT OK\n";
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void read_givenAppendedLines_willCountNewCompleteLinesOnly() {
+        final var path = createTempFile(".log", "");
+        final var target = new FlowLogFollower(path, null, () -> TableConsumer.NOOP);
+
+        append(path, HEADER + ROW + ROW);
+        assertRead(target, true, 2L);
+
+        append(path, ROW + ROW.substring(0, ROW.length() / 2));
+        assertRead(target, true, 3L);
+
+        append(path, ROW.substring(ROW.length() / 2));
+        assertRead(target, true, 4L);
+        assertRead(target, false, 4L);
+    }
+
+    @Test
+    void read_givenIncompleteHeaderRow_willWaitForHeaderRow() {
+        final var path = createTempFile(".log", "");
+        final var target = new FlowLogFollower(path, null, () -> TableConsumer.NOOP);
+
+        append(path, HEADER.substring(0, HEADER.length() / 2));
+        assertRead(target, false, 0L);
+
+        append(path, HEADER.substring(HEADER.length() / 2) + ROW);
+        assertRead(target, true, 1L);
+    }
+
+    @Test
+    void read_givenTruncatedFile_willReadFromStart() {
+        final var path = createTempFile(".log", "");
+        final var target = new FlowLogFollower(path, null, () -> TableConsumer.NOOP);
+
+        append(path, HEADER + ROW + ROW);
+        assertRead(target, true, 2L);
+
+        write(path, HEADER + ROW);
+        assertRead(target, true, 3L);
+    }
+
+    @Test
+    void read_givenMissingFile_willCountNothing() {
+        final var target = new FlowLogFollower(Path.of("missing.log"), null, () -> TableConsumer.NOOP);
+        assertRead(target, false, 0L);
+    }
+
+    @Test
+    void publish_shouldWriteTotalsToNewOutput() {
+        final var path = createTempFile(".log", "");
+        final var outputs = new ArrayList<List<String[]>>();
+        final var target = new FlowLogFollower(path, null, () -> {
+            final var output = new ArrayList<String[]>();
+            outputs.add(output);
+            return rows -> rows.forEach(output::add);
+        });
+
+        append(path, HEADER + ROW);
+        target.read();
+        target.publish();
+        append(path, ROW);
+        target.read();
+        target.publish();
+
+        assert$(outputs.size() == 2, "Unexpected output count: " + outputs.size());
+        final String[] expected = {"443", "tcp", "2"};
+        assert$(
+            outputs.get(1).stream().anyMatch(row -> equals(row, expected)),
+            () -> "Expected row %s in output: %s".formatted(toString(expected), toString(outputs.get(1).toArray()))
+        );
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static void assertRead(FlowLogFollower target, boolean expected, long expectedRows) {
+        final var given = target.read();
+        final var rows = target.counts().rows();
+        assert$(given == expected, "Unexpected read result: expected=%b, given=%b".formatted(expected, given));
+        assert$(rows == expectedRows, "Unexpected row count: expected=%d, given=%d".formatted(expectedRows, rows));
+    }
+
+    private static void append(Path path, String content) {
+        try {
+            Files.writeString(path, content, StandardOpenOption.APPEND);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to append to temporary file for testing", exception);
+        }
+    }
+
+    private static void write(Path path, String content) {
+        try {
+            Files.writeString(path, content, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to write to temporary file for testing", exception);
+        }
+    }
+}
@@ -0,0 +1,394 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * This class counts the port/protocol combinations of flow log files using an explicit pipeline of three stages, each
+ *   running on its own dedicated threads:
+ * <ol>
+ *   <li>Readers read the files into newline-aligned blocks of bytes, using a bounded pool of preallocated buffers that
+ *     circulate between the stages like a ring buffer. A reader blocks once every buffer is in use, so slow parsing
+ *     applies backpressure to reading instead of letting read blocks pile up in memory.</li>
+ *   <li>Parsers tokenize the blocks directly from bytes (see {@link RowTokenizer}) into {@link ProtocolKey}s, and
+ *     hand them over to the aggregators in batches.</li>
+ *   <li>Aggregators each own a partition of the {@link ProtocolKey}s and count the keys of their partition only, so
+ *     their counts never need to be combined; they are simply concatenated at the end.</li>
+ * </ol>
+ *
+ * The number of threads of every stage, the number and size of the read buffers, and the number of batches queued for
+ *   every aggregator are all configurable (see {@link Settings#PIPELINE}), so that a slow disk and CPU-bound parsing
+ *   can be balanced against each other explicitly instead of competing for the threads of a single pool.
+ *
+ * Readers are either a fixed number of platform threads, or a virtual thread per file (see
+ *   {@link Settings#VIRTUAL_READERS}). Virtual readers suit many small files on slow storage (e.g., network mounts),
+ *   where reading mostly blocks: thousands of files can be in flight without thousands of platform threads, while
+ *   parsing still only uses the fixed number of parser threads.
+ *
+ * @implNote The files are read sequentially within each reader (decompressing gzip-compressed files on the fly), so
+ *           more than one reader only helps when counting several files at once. A file is only opened once a buffer
+ *           is available to read it into, so the number of files open at once stays bounded by the number of buffers
+ *           (plus the files read partially so far) regardless of the number of readers.
+ */
+final class FlowLogPipeline {
+    private static final int DESTINATION_PORT = 6;
+    private static final int PROTOCOL = 7;
+    private static final byte LINE_FEED = '\n';
+    private static final Block END_OF_BLOCKS = new Block(null, 0, 0, (byte) 0);
+    private static final int[] END_OF_BATCHES = new int[0];
+    private static final long END_TIMEOUT = 100L;
+
+    private final int readers;
+    private final boolean virtualReaders;
+    private final int parsers;
+    private final int aggregators;
+    private final int batchSize;
+    private final BlockingQueue<ByteBuffer> buffers;
+    private final BlockingQueue<Block> blocks;
+    private final List<BlockingQueue<int[]>> batches = new ArrayList<>();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private final List<Thread> threads = new ArrayList<>();
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    /**
+     * Construct an instance of {@link FlowLogPipeline} using the {@link Settings#PIPELINE} settings.
+     */
+    FlowLogPipeline() {
+        this(
+            Settings.PIPELINE_READERS,
+            Settings.VIRTUAL_READERS,
+            Settings.PIPELINE_PARSERS,
+            Settings.PIPELINE_AGGREGATORS,
+            Settings.PIPELINE_BUFFERS,
+            Settings.PIPELINE_BUFFER_SIZE << 10,
+            Settings.PIPELINE_BATCHES
+        );
+    }
+
+    /**
+     * Construct an instance of {@link FlowLogPipeline} using given settings.
+     *
+     * @param readers The number of reader threads, unless using virtual readers
+     * @param virtualReaders Whether to read every file on its own virtual thread instead
+     * @param parsers The number of parser threads
+     * @param aggregators The number of aggregator threads (i.e., partitions)
+     * @param buffers The number of preallocated read buffers
+     * @param bufferSize The size of every read buffer in bytes; no line may be longer than this
+     * @param batches The maximum number of batches queued for every aggregator
+     */
+    FlowLogPipeline(
+        int readers,
+        boolean virtualReaders,
+        int parsers,
+        int aggregators,
+        int buffers,
+        int bufferSize,
+        int batches
+    ) {
+        this.readers = requirePositive(readers, "readers");
+        this.virtualReaders = virtualReaders;
+        this.parsers = requirePositive(parsers, "parsers");
+        this.aggregators = requirePositive(aggregators, "aggregators");
+        this.buffers = new ArrayBlockingQueue<>(requirePositive(buffers, "buffers"));
+        this.blocks = new ArrayBlockingQueue<>(buffers + parsers);
+        batchSize = Math.max(requirePositive(bufferSize, "buffer size") >> 6, 1);
+        for (var index = 0; index < buffers; index++) {
+            this.buffers.add(ByteBuffer.allocate(bufferSize));
+        }
+        for (var index = 0; index < aggregators; index++) {
+            this.batches.add(new ArrayBlockingQueue<>(requirePositive(batches, "batches")));
+        }
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Count the port/protocol combinations of given flow log files.
+     *
+     * @param inputs The {@link TableFileReader}s of the flow log files to count, whose column separators must all be
+     *               {@linkplain #supports(TableFileReader) supported}
+     * @return The {@link FlowCounts} of every row of the given files
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while reading any
+     *                              file
+     * @throws IllegalStateException If a line is longer than a read buffer
+     *
+     * @implNote Instances of this class can only count once, since their buffers are not reset afterward.
+     */
+    FlowCounts count(List<TableFileReader> inputs) throws UncheckedIOException, IllegalStateException {
+        final var files = new ConcurrentLinkedQueue<>(inputs);
+        final var counts = new ArrayList<FlowCounts>();
+        final var readerThreads = virtualReaders
+            ? create(Thread.ofVirtual(), "reader", inputs.size(), index -> read(files))
+            : create(Thread.ofPlatform(), "reader", readers, index -> read(files));
+        final var parserThreads = create(Thread.ofPlatform(), "parser", parsers, index -> parse());
+        final var aggregatorThreads = create(Thread.ofPlatform(), "aggregator", aggregators, index -> {
+            final var partition = new FlowCounts();
+            aggregate(batches.get(index), partition);
+            synchronized (counts) {
+                counts.add(partition);
+            }
+        });
+        threads.forEach(Thread::start); // Only start once every thread is known, so that any failure can stop them all.
+
+        try {
+            // Shut the stages down in order, so that every stage drains what the previous stage has produced. If any
+            // stage has failed, every thread has already been interrupted and there is nothing left to drain.
+            join(readerThreads);
+            for (var index = 0; index < parsers; index++) {
+                end(blocks, END_OF_BLOCKS);
+            }
+            join(parserThreads);
+            for (final var queue : batches) {
+                end(queue, END_OF_BATCHES);
+            }
+            join(aggregatorThreads);
+        } catch (InterruptedException exception) {
+            fail(new IllegalStateException("Interrupted while counting", exception));
+            Thread.currentThread().interrupt();
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return counts.stream().reduce(new FlowCounts(), FlowCounts::merge);
+    }
+
+    /**
+     * Determine whether a given {@link TableFileReader}'s file can be counted by a {@link FlowLogPipeline}, which
+     *   requires its column separator to be {@linkplain RowTokenizer#supports(String) supported} by
+     *   {@link RowTokenizer}.
+     */
+    static boolean supports(TableFileReader reader) {
+        return RowTokenizer.supports(reader.separator);
+    }
+
+    //==================================================================================================================
+    // Stage Support
+    //==================================================================================================================
+
+    /**
+     * Read the files from a given queue into newline-aligned {@link Block}s until the queue is empty.
+     */
+    private void read(ConcurrentLinkedQueue<TableFileReader> files) throws IOException, InterruptedException {
+        for (var file = files.poll(); file != null; file = files.poll()) {
+            final var separator = (byte) file.separator.charAt(0);
+            var next = buffers.take(); // Only open the file once there is a buffer to read it into.
+            final var openTime = Metrics.start();
+            try (var input = open(file)) {
+                Metrics.open(file.path, openTime);
+                var skipFirstLine = file.hasHeaderRow;
+                var carry = new byte[0];
+                for (var endOfFile = false; !endOfFile; next = null) {
+                    final var buffer = (next != null ? next : buffers.take()).clear();
+                    buffer.put(carry);
+                    final var readTime = Metrics.start();
+                    endOfFile = fill(input, buffer);
+                    Metrics.stop(Metrics.Stage.READ, readTime);
+
+                    var end = buffer.position();
+                    if (!endOfFile) {
+                        end = lastLine(buffer, end);
+                        if (end == 0) {
+                            throw new IllegalStateException("A line exceeds the pipeline buffer size: " + file.path);
+                        }
+                    }
+                    carry = new byte[buffer.position() - end];
+                    buffer.get(end, carry);
+
+                    // The header row always ends within the first block, since no line may be longer than a block.
+                    final var start = skipFirstLine ? Math.min(FileChunk.nextLine(buffer, 0), end) : 0;
+                    skipFirstLine = false;
+                    blocks.put(new Block(buffer, start, end, separator));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tokenize {@link Block}s into {@link ProtocolKey}s, handing them over to the aggregators in batches, until the end
+     *   of the blocks is reached.
+     */
+    private void parse() throws InterruptedException {
+        final var batches = new int[aggregators][batchSize];
+        final var sizes = new int[aggregators];
+        for (var block = blocks.take(); block != END_OF_BLOCKS; block = blocks.take()) {
+            final var startTime = Metrics.start();
+            final var bytes = block.buffer.slice(block.start, block.end - block.start);
+            final var tokenizer = new RowTokenizer(bytes, block.separator, DESTINATION_PORT, PROTOCOL);
+            var rows = 0L;
+            while (tokenizer.next()) {
+                rows++;
+                var key = ProtocolKey.of(tokenizer.integer(DESTINATION_PORT), tokenizer.integer(PROTOCOL));
+                if (key == ProtocolKey.UNPACKABLE) {
+                    key = ProtocolKey.of(tokenizer.string(DESTINATION_PORT), tokenizer.string(PROTOCOL));
+                }
+
+                final var partition = partition(key);
+                batches[partition][sizes[partition]++] = key;
+                if (sizes[partition] == batchSize) {
+                    this.batches.get(partition).put(batches[partition]);
+                    batches[partition] = new int[batchSize];
+                    sizes[partition] = 0;
+                }
+            }
+            Metrics.stop(Metrics.Stage.TOKENIZE, startTime, rows);
+            buffers.put(block.buffer); // Return the buffer to the readers as soon as it has been tokenized.
+        }
+
+        for (var partition = 0; partition < aggregators; partition++) {
+            if (sizes[partition] > 0) {
+                this.batches.get(partition).put(Arrays.copyOf(batches[partition], sizes[partition]));
+            }
+        }
+    }
+
+    /**
+     * Count the {@link ProtocolKey}s of the batches from a given queue until the end of the batches is reached.
+     */
+    private static void aggregate(BlockingQueue<int[]> batches, FlowCounts counts) throws InterruptedException {
+        for (var batch = batches.take(); batch != END_OF_BATCHES; batch = batches.take()) {
+            final var startTime = Metrics.start();
+            for (final var key : batch) {
+                counts.add(key);
+            }
+            Metrics.stop(Metrics.Stage.AGGREGATE, startTime, batch.length);
+        }
+    }
+
+    //==================================================================================================================
+    // Thread Support
+    //==================================================================================================================
+
+    /**
+     * Create a given number of (unstarted) threads running a given stage using a given {@link Thread.Builder}.
+     */
+    private List<Thread> create(Thread.Builder builder, String stage, int count, Stage body) {
+        final var threads = new ArrayList<Thread>(count);
+        for (var index = 0; index < count; index++) {
+            final var worker = index;
+            final var name = "%s-pipeline-%s-%d".formatted(Settings.THREAD_PREFIX, stage, index);
+            threads.add(builder.name(name).unstarted(() -> {
+                try {
+                    body.run(worker);
+                } catch (InterruptedException exception) {
+                    fail(new IllegalStateException("Interrupted while counting", exception));
+                } catch (IOException exception) {
+                    fail(new UncheckedIOException("Failed to read file", exception));
+                } catch (RuntimeException exception) {
+                    fail(exception);
+                } finally {
+                    Metrics.exit(); // The thread's allocations can no longer be measured once it has terminated.
+                }
+            }));
+        }
+        this.threads.addAll(threads);
+        return threads;
+    }
+
+    /**
+     * Record a given failure and interrupt every thread of this {@link FlowLogPipeline}, so that no stage stays
+     *   blocked waiting for another stage that has failed.
+     */
+    private void fail(RuntimeException exception) {
+        if (failure.compareAndSet(null, exception)) {
+            threads.forEach(Thread::interrupt);
+        }
+    }
+
+    /**
+     * Signal the end of a stage's input by putting a given marker into a given queue, unless any stage has failed (in
+     *   which case the queue may never be drained again).
+     */
+    private <T> void end(BlockingQueue<T> queue, T marker) throws InterruptedException {
+        while (failure.get() == null && !queue.offer(marker, END_TIMEOUT, TimeUnit.MILLISECONDS)) {
+            // Keep waiting for the next stage to make room.
+        }
+    }
+
+    private static void join(List<Thread> threads) throws InterruptedException {
+        for (final var thread : threads) {
+            thread.join();
+        }
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    private static InputStream open(TableFileReader file) throws IOException {
+        final var input = Files.newInputStream(file.path);
+        return file.isGzip() ? new GZIPInputStream(input, 1 << 16) : input;
+    }
+
+    /**
+     * Fill a given {@link ByteBuffer} from a given {@link InputStream}.
+     *
+     * @return Whether the end of the {@link InputStream} was reached
+     */
+    private static boolean fill(InputStream input, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            final var read = input.read(buffer.array(), buffer.position(), buffer.remaining());
+            if (read < 0) {
+                return true;
+            }
+            buffer.position(buffer.position() + read);
+        }
+        return false;
+    }
+
+    /**
+     * Find the position immediately following the last line feed before a given position of a given
+     *   {@link ByteBuffer}, or {@code 0} if there is none.
+     */
+    private static int lastLine(ByteBuffer buffer, int end) {
+        while (end > 0 && buffer.get(end - 1) != LINE_FEED) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Assign a given {@link ProtocolKey} to the partition of an aggregator, spreading similar keys (e.g., consecutive
+     *   ports) across the partitions evenly.
+     */
+    private int partition(int key) {
+        return (int) (((key * 0x9e3779b9L) & 0xffffffffL) * aggregators >>> 32);
+    }
+
+    private static int requirePositive(int value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("The number of %s must be positive: %d".formatted(name, value));
+        }
+        return value;
+    }
+
+    //==================================================================================================================
+    // Block Support
+    //==================================================================================================================
+
+    /**
+     * This record is a newline-aligned range of bytes of a single flow log file within a read buffer.
+     */
+    private record Block(ByteBuffer buffer, int start, int end, byte separator) {}
+
+    @FunctionalInterface
+    private interface Stage {
+        void run(int index) throws IOException, InterruptedException;
+    }
+}
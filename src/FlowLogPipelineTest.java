@@ -0,0 +1,120 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+class FlowLogPipelineTest extends BaseUnitTest {
+    private static final String HEADER =
+        "version account-id interface-id srcaddr dstaddr srcport dstport protocol packets bytes start end action status\n";
+    private static final String ROW =
+        "2 123456789012 eni-1a2b3c4d 10.0.1.102 172.217.7.228 1030 %d %s 8 4000 1620140661 1620140721 ACCEPT OK\n";
+    private static final String[] PROTOCOLS = {"6", "17", "1", "-", "999"};
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void count_givenFlowLogFiles_willCountSameAsProcessor() {
+        final var paths = List.of(
+            createTempFile(null, HEADER + rows(1000)),
+            createTempFile(null, rows(500) + rows(1).strip())
+        );
+        final var readers = paths.stream().map(TableFileReader::new).toList();
+        final var processor = new FlowLogProcessor(TableSupplier.NOOP, TableConsumer.NOOP);
+        final var expected = processor.toCounts(readers.getFirst()).merge(processor.toCounts(readers.getLast()));
+
+        assertCounts(new FlowLogPipeline(2, false, 3, 2, 4, 1 << 16, 4).count(readers), expected, 1501L);
+    }
+
+    @Test
+    void count_givenVirtualReaders_willCountEveryFile() {
+        final var readers = IntStream.range(0, 200).mapToObj(file -> readerOf(HEADER + rows(10))).toList();
+        final var expected = new FlowLogPipeline(1, false, 1, 1, 1, 1 << 16, 1).count(readers);
+
+        assertCounts(new FlowLogPipeline(1, true, 2, 2, 8, 1 << 12, 2).count(readers), expected, 2000L);
+    }
+
+    @Test
+    void count_givenSmallBuffers_willCountLinesAcrossBlocks() {
+        final var content = HEADER + rows(1000);
+        final var expected = new FlowLogPipeline(1, false, 1, 1, 1, 1 << 16, 1).count(List.of(readerOf(content)));
+
+        final var target = new FlowLogPipeline(1, false, 4, 3, 2, HEADER.length() + 8, 2);
+        final var given = target.count(List.of(readerOf(content)));
+        assertCounts(given, expected, 1000L);
+    }
+
+    @Test
+    void count_givenGzipFile_willCountDecompressedLines() throws IOException {
+        final var content = HEADER + rows(1000);
+        final var path = createTempFile(".gz", "");
+        try (var output = new GZIPOutputStream(Files.newOutputStream(path))) {
+            output.write(content.getBytes());
+        }
+        final var expected = new FlowLogPipeline(1, false, 1, 1, 1, 1 << 16, 1).count(List.of(readerOf(content)));
+
+        final var target = new FlowLogPipeline(1, false, 2, 2, 2, 1 << 12, 2);
+        final var given = target.count(List.of(new TableFileReader(path)));
+        assertCounts(given, expected, 1000L);
+    }
+
+    @Test
+    void count_givenLineLongerThanBuffer_willThrowException() {
+        final var target = new FlowLogPipeline(1, false, 2, 2, 2, ROW.length() / 2, 2);
+        try {
+            target.count(List.of(readerOf(HEADER + rows(10))));
+            assert$(false, "Expected an exception to be thrown");
+        } catch (IllegalStateException exception) {
+            // This is expected.
+        }
+    }
+
+    @Test
+    void constructor_givenNonPositiveThreadCount_willThrowException() {
+        try {
+            new FlowLogPipeline(1, false, 0, 1, 1, 1 << 10, 1);
+            assert$(false, "Expected an exception to be thrown");
+        } catch (IllegalArgumentException exception) {
+            // This is expected.
+        }
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static void assertCounts(FlowCounts given, FlowCounts expected, long rows) {
+        assert$(given.rows() == rows, () -> "Unexpected row count: expected=%d, given=%d".formatted(rows, given.rows()));
+        assert$(
+            given.combinations().equals(expected.combinations()),
+            () -> "Unexpected combinations: expected=%s, given=%s".formatted(
+                expected.combinations(),
+                given.combinations()
+            )
+        );
+    }
+
+    private static String rows(int count) {
+        final var random = ThreadLocalRandom.current();
+        final var rows = new StringBuilder();
+        for (var row = 0; row < count; row++) {
+            rows.append(ROW.formatted(random.nextInt(1 << 16), PROTOCOLS[random.nextInt(PROTOCOLS.length)]));
+        }
+        return rows.toString();
+    }
+
+    private static TableFileReader readerOf(String content) {
+        return new TableFileReader(createTempFile(null, content));
+    }
+}
@@ -1,12 +1,21 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -17,11 +26,13 @@ class FlowLogProcessor implements Runnable {
     private static final Consumer<String[]> NOOP_DEBUGGER = row -> {};
     private static final int DESTINATION_PORT = 6;
     private static final int PROTOCOL = 7;
+    private static final String UNTAGGED = "Untagged";
 
     private final TableSupplier input;
     private final Tags tags;
     private final TableConsumer output;
     private final TableConsumer debug = Settings.DEBUG ? new TableFileWriter(Constants.DEBUG_PATH) : TableConsumer.NOOP;
+    private final AtomicLong rowCount = new AtomicLong();
 
     //==================================================================================================================
     // Constructors
@@ -33,7 +44,7 @@ class FlowLogProcessor implements Runnable {
 
     FlowLogProcessor(TableSupplier input, Tags tags, TableConsumer output) {
         this.input = Objects.requireNonNull(input);
-        this.tags = Objects.requireNonNullElse(tags, Constants.TAGS);
+        this.tags = Objects.requireNonNullElseGet(tags, Constants.TAGS);
         this.output = Objects.requireNonNull(output);
         warmUp();
     }
@@ -44,60 +55,392 @@ class FlowLogProcessor implements Runnable {
 
     @Override
     public void run() {
+        final var counts = count();
+        try {
+            if (Settings.SAVE_COUNTS) {
+                CountsFile.write(Constants.COUNTS_PATH, PartialCounts.of(counts));
+            }
+            write(counts, output);
+            deleteCheckpoint(); // The output supersedes the last checkpoint.
+        } finally {
+            Utils.releaseResources(output);
+        }
+
+        if (Metrics.ENABLED) {
+            // Write the metrics next to the output file, if any.
+            Metrics.write(
+                output instanceof TableFileWriter writer
+                    ? writer.path.resolveSibling(Constants.METRICS_PATH.getFileName())
+                    : Constants.METRICS_PATH,
+                rowCount()
+            );
+        }
+    }
+
+    //==================================================================================================================
+    // Package-private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Count this {@link FlowLogProcessor}'s input and save its {@link PartialCounts} to a given counts file instead of
+     *   writing the output, so that they can be {@linkplain CountsFile#merge(List) merged} with the partial results
+     *   of other workers later.
+     *
+     * @param path The {@link Path} of the counts file to save to
+     */
+    void save(Path path) {
+        final var counts = count();
+        try {
+            CountsFile.write(path, PartialCounts.of(counts));
+            Loggers.INFO.accept("[<] Saved partial counts: " + path);
+            deleteCheckpoint(); // The partial counts supersede the last checkpoint.
+        } finally {
+            Utils.releaseResources(output);
+        }
+    }
+
+    /**
+     * Tag given port/protocol combination counts (e.g., {@linkplain CountsFile saved} by an earlier run) using this
+     *   {@link FlowLogProcessor}'s {@link Tags} and write them to its output, without reading its input.
+     *
+     * @param counts The {@link FlowCounts} to tag
+     */
+    void retag(FlowCounts counts) {
         final var startTime = Instant.now();
-        final var rowCount = new AtomicLong();
-        Loggers.INFO.accept("[%%] Processing flow log using %s...".formatted(input));
+        rowCount.set(counts.rows());
+        Loggers.INFO.accept("[%] Re-tagging saved port/protocol combination counts...");
 
-        try (var rows = input.get()) {
-            final var counts = toCounts(rows, row -> rowCount.getAndIncrement(), debug::rows);
-            printOutput(counts.getKey(), counts.getValue());
-
-            output
-                .row("Tag Counts:")
-                .row("Tag", "Count");
-            counts
-                .getKey()
-                .forEach((tag, count) -> output.row(tag, String.valueOf(count)));
-            output
-                .row()
-                .row("Port/Protocol Combination Counts:")
-                .row("Port", "Protocol", "Count");
-            counts
-                .getValue()
-                .forEach((protocol, count) -> output.row(protocol.port(), protocol.name(), String.valueOf(count)));
+        try {
+            write(counts, output);
         } finally {
             Utils.releaseResources(input, output, debug);
             printStatistics(startTime, rowCount);
         }
     }
 
+    /**
+     * Retrieve the number of rows processed by the latest {@link #run()} of this {@link FlowLogProcessor}.
+     */
+    long rowCount() {
+        return rowCount.get();
+    }
+
+    /**
+     * Count the port/protocol combinations of a given {@link TableSupplier}'s flow log rows.
+     */
+    FlowCounts toCounts(TableSupplier input) {
+        return toCounts(input, Settings.PARALLEL);
+    }
+
+    /**
+     * Count the port/protocol combinations of a given {@link TableFileReader}'s file in batches of
+     *   {@link Settings#CHECKPOINT_INTERVAL} mebibytes, writing a {@link Checkpoint} to a given {@link Path} after
+     *   every batch and resuming from the {@link Checkpoint} already there if it was taken of the same file.
+     *
+     * @implNote Every batch is cut at a line boundary and counted in full (in parallel, if allowed) before its
+     *           {@link Checkpoint} is written, so the position of every {@link Checkpoint} separates the lines already
+     *           counted from those that are not; no line is counted twice or skipped after resuming.
+     */
+    FlowCounts toCounts(TableFileReader reader, Path checkpointPath) {
+        final var checkpoint = Checkpoint.read(checkpointPath).filter(candidate -> candidate.matches(reader.path));
+        final var counts = checkpoint.map(Checkpoint::counts).orElseGet(FlowCounts::new);
+        var position = checkpoint.map(Checkpoint::position).orElse(0L);
+        if (checkpoint.isPresent()) {
+            Loggers.INFO.accept("[!] Resuming from checkpoint at position %d: %s".formatted(position, reader.path));
+        }
+
+        try (var channel = FileChannel.open(reader.path, StandardOpenOption.READ)) {
+            final var size = channel.size();
+            while (position < size) {
+                final var limit = Math.min(position + Settings.CHECKPOINT_INTERVAL * Constants.MEBIBYTE_SCALE, size);
+                final var chunks = new ArrayList<FileChunk>();
+                final var end = FileChunk.map(
+                    channel,
+                    position,
+                    limit,
+                    position == 0L && reader.hasHeaderRow,
+                    limit == size, // Only the last batch may end with an unterminated line.
+                    FileChunk.REGION_SIZE,
+                    FileChunk.CHUNK_SIZE,
+                    chunks
+                );
+                if (end == position) {
+                    throw new IllegalStateException("A line exceeds the checkpoint interval at position: " + position);
+                }
+
+                counts.merge(toCounts(reader.read(chunks)));
+                position = end;
+                Checkpoint.of(reader.path, position, counts).write(checkpointPath);
+                Loggers.INFO.accept("[#] Checkpointed at position %d of %d: %s".formatted(position, size, reader.path));
+            }
+            return counts;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to map file for reading: " + reader.path, exception);
+        }
+    }
+
+    /**
+     * Write the tag counts and port/protocol combination counts of given {@link FlowCounts} to a given
+     *   {@link TableConsumer}.
+     *
+     * @param counts The {@link FlowCounts} to write
+     * @param output The {@link TableConsumer} to write to; it is not released afterward
+     */
+    void write(FlowCounts counts, TableConsumer output) {
+        final var combinations = counts.combinations();
+        final var tagTime = Metrics.start();
+        final var tags = counts.tags(this.tags.compile(), UNTAGGED);
+        Metrics.stop(Metrics.Stage.TAG_LOOKUP, tagTime, combinations.size());
+        printOutput(tags, combinations);
+
+        final var writeTime = Metrics.start();
+        output
+            .row("Tag Counts:")
+            .row("Tag", "Count");
+        tags.forEach((tag, count) -> output.row(tag, String.valueOf(count)));
+        output
+            .row()
+            .row("Port/Protocol Combination Counts:")
+            .row("Port", "Protocol", "Count");
+        combinations.forEach((protocol, count) -> output.row(
+            protocol.port(),
+            protocol.name(),
+            String.valueOf(count)
+        ));
+        Metrics.stop(Metrics.Stage.WRITE, writeTime, tags.size() + combinations.size());
+    }
+
+    /**
+     * Count the port/protocol combinations of a given {@link Stream} of flow log rows.
+     *
+     * @param rows The {@link Stream} of flow log rows to count
+     * @param debuggers The list of {@link Consumer}s to pass every row to if the {@link Settings#DEBUG} setting is
+     *                  enabled
+     * @return The {@link FlowCounts} of the given rows
+     *
+     * @implNote Every worker counts into its own {@link FlowCounts}, which are merged once at the end; see
+     *           {@link FlowCounts#collector(java.util.function.ToIntFunction)}. Only the combinations are counted for
+     *           every row; the tag counts are derived from them afterward using
+     *           {@link FlowCounts#tags(TagClassifier, String)}. Parallel computation runs in {@link Constants#POOL};
+     *           see {@link Utils#compute(java.util.function.Supplier)}.
+     */
+    @SafeVarargs
+    final FlowCounts toCounts(Stream<String[]> rows, Consumer<String[]>... debuggers) {
+        // Use parallel computation, if allowed.
+        return toCounts(rows, Settings.PARALLEL, Stream.of(debuggers).reduce(Consumer::andThen).orElse(NOOP_DEBUGGER));
+    }
+
     //==================================================================================================================
     // Private Helper Methods
     //==================================================================================================================
 
-    @SafeVarargs
-    private Map.Entry<Map<String, Long>, Map<Protocol, Long>> toCounts(
-        Stream<String[]> rows,
-        Consumer<String[]>... debuggers
-    ) {
-        return (Settings.PARALLEL ? rows.parallel() : rows.sequential()) // Use parallel computation, if allowed.
+    private FlowCounts toCounts(TableSupplier input, boolean parallel) {
+        // Only the columns used for processing are required, unless the full rows are needed for debugging.
+        try (var rows = Settings.DEBUG ? input.get() : input.get(DESTINATION_PORT, PROTOCOL)) {
+            return toCounts(rows, parallel, debug::rows);
+        }
+    }
+
+    private FlowCounts toCounts(Stream<String[]> rows, boolean parallel, Consumer<String[]> debugger) {
+        final var counted = (parallel ? rows.parallel() : rows.sequential())
             .unordered() // Lift any potential ordering constraint - if the data source allows it.
-            .peek(Settings.DEBUG ? Stream.of(debuggers).reduce(Consumer::andThen).orElse(NOOP_DEBUGGER) : NOOP_DEBUGGER)
-            .map(this::toProtocol)
-            .collect(Collectors.teeing(
-                Collectors.groupingByConcurrent(this::getTag, Utils.countingCollector()),
-                Collectors.groupingByConcurrent(Function.identity(), Utils.countingCollector()),
-                Map::entry // We're simply using this as a pair/2-tuple. This becomes infeasible with more data points.
+            .peek(Settings.DEBUG ? debugger : NOOP_DEBUGGER);
+        return parallel
+            ? Utils.compute(() -> counted.collect(FlowCounts.collector(this::toKey))) // Run in the processing pool.
+            : counted.collect(FlowCounts.collector(this::toKey));
+    }
+
+    /**
+     * Count the port/protocol combinations of this {@link FlowLogProcessor}'s input, releasing the input afterward.
+     */
+    private FlowCounts count() {
+        final var startTime = Instant.now();
+        rowCount.set(0L);
+        if (Metrics.ENABLED) {
+            // Load the IANA protocols (needed to write the output anyway) first, so that they are not recorded as input.
+            Constants.IANA_PROTOCOLS.get();
+            Metrics.reset();
+        }
+        Loggers.INFO.accept("[%%] Processing flow log using %s...".formatted(input));
+
+        try {
+            final var counts = toCounts();
+            rowCount.set(counts.rows());
+            return counts;
+        } finally {
+            Utils.releaseResources(input, debug);
+            printStatistics(startTime, rowCount);
+        }
+    }
+
+    private void deleteCheckpoint() {
+        try {
+            if (Settings.CHECKPOINT) {
+                Files.deleteIfExists(Constants.CHECKPOINT_PATH);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to delete checkpoint: " + Constants.CHECKPOINT_PATH, exception);
+        }
+    }
+
+    /**
+     * Count the port/protocol combinations of this {@link FlowLogProcessor}'s input, choosing the strategy that fits
+     *   the input and settings best.
+     */
+    private FlowCounts toCounts() {
+        if (Settings.INCREMENTAL && (input instanceof TableFileReader || input instanceof TableFileSet)) {
+            final var store = new ResultStore(Constants.RESULT_STORE_PATH);
+            try {
+                if (input instanceof TableFileReader reader) {
+                    return store.computeIfAbsent(reader.path, path -> toFileCounts(reader));
+                }
+                return toCounts(
+                    (TableFileSet) input,
+                    path -> store.computeIfAbsent(path, file -> toCounts(List.of(new TableFileReader(file))))
+                );
+            } finally {
+                store.write(); // Keep the counts of every file counted so far, even if another file failed.
+            }
+        } else if (Settings.ADAPTIVE && !Settings.CHECKPOINT) {
+            return toPlannedCounts();
+        } else if (input instanceof TableFileReader reader) {
+            return toFileCounts(reader);
+        } else if (input instanceof TableFileSet files) {
+            final var readers = files.paths().stream().map(TableFileReader::new).toList();
+            if (pipelined(readers)) {
+                return new FlowLogPipeline().count(readers); // Count every file using a single pipeline.
+            }
+            return toCounts(files, path -> toCounts(new TableFileReader(path)));
+        }
+        return toCounts(input);
+    }
+
+    /**
+     * Count the port/protocol combinations of this {@link FlowLogProcessor}'s input as planned by
+     *   {@link ExecutionPlanner}.
+     */
+    private FlowCounts toPlannedCounts() {
+        final var readers = switch (input) {
+            case TableFileReader reader -> List.of(reader);
+            case TableFileSet files -> files.paths().stream().map(TableFileReader::new).toList();
+            default -> List.<TableFileReader>of();
+        };
+        final var plan = readers.isEmpty() ? ExecutionPlanner.plan(input) : ExecutionPlanner.plan(readers);
+        Loggers.INFO.accept("[#] Planned execution: " + plan);
+
+        final var parallel = plan.parallel();
+        return switch (plan.reader()) {
+            case ROWS -> readers.isEmpty()
+                ? toCounts(input, parallel)
+                : toCounts(readers, parallel, reader -> toCounts(reader, parallel));
+            case CHUNKS -> toCounts(readers, parallel, reader -> toCounts(
+                reader.read(Arrays.asList(FileChunk.map(
+                    reader.path,
+                    reader.hasHeaderRow,
+                    FileChunk.REGION_SIZE,
+                    plan.chunkSize()
+                ))),
+                parallel
             ));
+            case PIPELINE -> new FlowLogPipeline(
+                Math.min(Settings.PIPELINE_READERS, readers.size()),
+                Settings.VIRTUAL_READERS,
+                plan.parallelism(),
+                Math.min(Settings.PIPELINE_AGGREGATORS, plan.parallelism()),
+                Settings.PIPELINE_BUFFERS,
+                plan.chunkSize(),
+                Settings.PIPELINE_BATCHES
+            ).count(readers);
+        };
     }
 
-    private Protocol toProtocol(String[] columns) {
-        final var ianaProtocol = Constants.IANA_PROTOCOLS.getOrDefault(columns[PROTOCOL], Protocol.UNKNOWN);
-        return Protocol.of(columns[DESTINATION_PORT], ianaProtocol.name());
+    /**
+     * Count the port/protocol combinations of a single file, checkpointing the progress if allowed.
+     */
+    private FlowCounts toFileCounts(TableFileReader reader) {
+        if (Settings.CHECKPOINT) {
+            if (!reader.isGzip()) {
+                return toCounts(reader, Constants.CHECKPOINT_PATH);
+            }
+            Loggers.INFO.accept("[!] Checkpoints are not supported for gzip-compressed files: " + reader.path);
+        }
+        return toCounts(List.of(reader));
+    }
+
+    /**
+     * Count the port/protocol combinations of given files, using a {@link FlowLogPipeline} if allowed.
+     */
+    private FlowCounts toCounts(List<TableFileReader> readers) {
+        if (pipelined(readers)) {
+            return new FlowLogPipeline().count(readers);
+        }
+        return readers.stream().map(reader -> toCounts(reader)).reduce(new FlowCounts(), FlowCounts::merge);
+    }
+
+    /**
+     * Determine whether given files should be counted using a {@link FlowLogPipeline}, which is only the case if the
+     *   {@link Settings#PIPELINE} setting is enabled, the {@link Settings#DEBUG} setting is not (since the pipeline
+     *   never materializes the rows to debug), and the pipeline supports every file.
+     */
+    private static boolean pipelined(List<TableFileReader> readers) {
+        if (!Settings.PIPELINE) {
+            return false;
+        } else if (Settings.DEBUG) {
+            Loggers.INFO.accept("[!] The pipeline does not support debugging; counting without it...");
+            return false;
+        }
+
+        final var unsupported = readers
+            .stream()
+            .filter(reader -> !FlowLogPipeline.supports(reader))
+            .map(reader -> reader.path)
+            .toList();
+        if (!unsupported.isEmpty()) {
+            Loggers.INFO.accept("[!] The pipeline does not support the column separators of: " + unsupported);
+        }
+        return unsupported.isEmpty();
+    }
+
+    /**
+     * Count the port/protocol combinations of every file of a given {@link TableFileSet} using a given function,
+     *   merging them into a single {@link FlowCounts}.
+     *
+     * @implNote Files are counted one at a time if the {@link Settings#PIPELINE} setting is enabled, since every
+     *           {@link FlowLogPipeline} already runs its own threads.
+     */
+    private FlowCounts toCounts(TableFileSet files, Function<Path, FlowCounts> counter) {
+        return toCounts(files.paths(), Settings.PARALLEL && !Settings.PIPELINE, counter);
+    }
+
+    /**
+     * Count the port/protocol combinations of every given file using a given function, merging them into a single
+     *   {@link FlowCounts}.
+     *
+     * @implNote If parallel computation is allowed, every file is submitted to the
+     *           {@linkplain Constants#POOL processing pool} as its own task, largest first, so that the largest
+     *           files do not start last and leave the other workers idle at the end. Large files are further split by
+     *           their own parallel {@link Stream}s, whose subtasks can be stolen by workers that have run out of files.
+     */
+    private <T> FlowCounts toCounts(List<T> files, boolean parallel, Function<? super T, FlowCounts> counter) {
+        if (!parallel || files.size() <= 1) {
+            return files.stream().map(counter).reduce(new FlowCounts(), FlowCounts::merge);
+        }
+
+        final var tasks = files
+            .stream()
+            .map(file -> Constants.POOL.submit(() -> counter.apply(file)))
+            .toList();
+
+        try {
+            return tasks.stream().map(ForkJoinTask::join).reduce(new FlowCounts(), FlowCounts::merge);
+        } catch (RuntimeException exception) {
+            tasks.forEach(task -> task.cancel(false)); // Do not bother processing the remaining files.
+            throw exception;
+        }
     }
 
-    private String getTag(Protocol protocol) {
-        return tags.getOrDefault(protocol, "Untagged");
+    private int toKey(String[] columns) {
+        return ProtocolKey.of(columns[DESTINATION_PORT], columns[PROTOCOL]);
     }
 
     private void printOutput(Map<String, Long> tags, Map<Protocol, Long> combinations) {
@@ -115,25 +458,38 @@ class FlowLogProcessor implements Runnable {
     private void printStatistics(Instant startTime, Number rowCount) {
         final var duration = Duration.between(startTime, Instant.now()).toNanos() / 1_000_000_000D;
         if (Settings.DEBUG) {
-            Loggers.INFO.accept("[#] Processed flow log with %d rows (~%.2f MiB) in %.5f seconds.".formatted(
+            // The size is only estimated from the number of rows unless the actual bytes read are recorded.
+            final var bytes = Metrics.ENABLED ? Metrics.bytes() : rowCount.longValue() * Constants.FLOW_LOG_RECORD_SIZE;
+            Loggers.INFO.accept("[#] Processed flow log with %d rows (%s%.2f MiB) in %.5f seconds.".formatted(
                 rowCount.longValue(),
-                rowCount.longValue() * Constants.FLOW_LOG_RECORD_SIZE / (double) Constants.MEBIBYTE_SCALE,
+                Metrics.ENABLED ? "" : "~",
+                bytes / (double) Constants.MEBIBYTE_SCALE,
                 duration
             ));
+            Loggers.INFO.accept("[#] Protocol cache: %s".formatted(Protocol.CACHE));
         } else {
             Loggers.INFO.accept("[#] Processed flow log in %.5f seconds.".formatted(duration));
         }
     }
 
     /**
-     * Warm up the Java virtual runtime by repeatedly running through "hot spots" to hint to the just-in-time compiler
-     *   to inline certain methods. This is done only once per JVM start-up, but cannot be done using a static
-     *   initialization block due to circular class initialization.
+     * Warm up the Java virtual machine by counting a sample flow log file the same way as an actual flow log file (see
+     *   {@link WarmUp}). This is done only once per JVM start-up, but cannot be done using a static initialization
+     *   block due to circular class initialization.
      */
     private static void warmUp() {
         if (Settings.WARM_UP && WARMED_UP.compareAndSet(false, true)) {
             Loggers.INFO.accept("[!] Warming up the Java virtual machine...");
-            new FlowLogProcessor(FlowLogGenerator.ofMebibytes(1 << 10), TableConsumer.NOOP).run();
+            final var processor = new FlowLogProcessor(TableSupplier.NOOP, TableConsumer.NOOP);
+            try {
+                final var report = WarmUp.run(
+                    reader -> processor.toCounts(List.of(reader)),
+                    Duration.ofMillis(Settings.WARM_UP_BUDGET)
+                );
+                Loggers.INFO.accept("[#] " + report);
+            } finally {
+                Utils.releaseResources(processor.debug);
+            }
         }
     }
 }
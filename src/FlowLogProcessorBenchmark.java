@@ -0,0 +1,87 @@
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class benchmarks how {@link FlowLogProcessor}'s counting of {@value #ROWS} in-memory flow log rows scales with
+ *   the number of worker threads, by counting them in {@link ForkJoinPool}s of parallelism 1, 2, 4, and so on, as well
+ *   as in one with a worker for every available processor.
+ * <br/><br/>
+ *
+ * The speedup of a parallelism is the ratio of the time per operation of {@link #toCounts01()} to its own; linear
+ *   scaling halves the time per operation every time the parallelism doubles, up to the number of available processors.
+ */
+class FlowLogProcessorBenchmark extends BaseBenchmark {
+    private static final int ROWS = 1 << 20;
+
+    private final FlowLogProcessor processor = new FlowLogProcessor(TableSupplier.NOOP, TableConsumer.NOOP);
+    private final List<String[]> data;
+    private ForkJoinPool pool;
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String... args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    FlowLogProcessorBenchmark() {
+        // Materialize the rows up front so that only counting is measured, not generating.
+        try (var rows = new FlowLogGenerator(ROWS).get()) {
+            data = rows.toList();
+        }
+    }
+
+    //==================================================================================================================
+    // Benchmarks
+    //==================================================================================================================
+
+    @Benchmark
+    FlowCounts toCounts01() {
+        return toCounts(1);
+    }
+
+    @Benchmark
+    FlowCounts toCounts02() {
+        return toCounts(2);
+    }
+
+    @Benchmark
+    FlowCounts toCounts04() {
+        return toCounts(4);
+    }
+
+    @Benchmark
+    FlowCounts toCounts08() {
+        return toCounts(8);
+    }
+
+    @Benchmark
+    FlowCounts toCounts16() {
+        return toCounts(16);
+    }
+
+    @Benchmark
+    FlowCounts toCountsAvailableProcessors() {
+        return toCounts(Runtime.getRuntime().availableProcessors());
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Count the rows in a {@link ForkJoinPool} of a given parallelism, which is created on the first invocation only
+     *   (since every benchmark method runs on its own instance of this class).
+     */
+    private FlowCounts toCounts(int parallelism) {
+        if (pool == null) {
+            pool = Utils.newForkJoinPool(parallelism, "%s-benchmark-%d".formatted(Settings.THREAD_PREFIX, parallelism));
+        }
+        return pool.submit(() -> processor.toCounts(data.stream())).join();
+    }
+}
@@ -1,3 +1,5 @@
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
@@ -60,4 +62,46 @@ class FlowLogProcessorTest extends BaseUnitTest {
             () -> "Unexpected rows: expected=%s, given=%s".formatted(toString(EXPECTED_OUTPUT), toString(OUTPUT.toArray()))
         );
     }
+
+    @Test
+    void retag_shouldTagCountsCorrectly() {
+        final var output = new ArrayList<String[]>();
+        final var target = new FlowLogProcessor(TableSupplier.NOOP, TAGS, rows -> rows.forEach(output::add));
+        target.retag(target.toCounts(DATA));
+
+        // The data row ordering is non-deterministic, so we can't perform a strict, ordered assertion.
+        assert$(
+            output.size() == EXPECTED_OUTPUT.length
+                && output
+                    .stream()
+                    .allMatch(row -> Stream.of(EXPECTED_OUTPUT).anyMatch(expectedRow -> equals(row, expectedRow))),
+            () -> "Unexpected rows: expected=%s, given=%s".formatted(toString(EXPECTED_OUTPUT), toString(output.toArray()))
+        );
+    }
+
+    @Test
+    void toCounts_givenCheckpoint_willResumeFromCheckpoint() throws IOException {
+        final var target = new FlowLogProcessor(TableSupplier.NOOP, TAGS, TableConsumer.NOOP);
+        final var lines = DATA.get().map(columns -> String.join(" ", columns) + "\n").toList();
+        final var input = createTempFile(
+            ".log",
+            "version account-id interface-id srcaddr dstaddr\n" + String.join("", lines)
+        );
+        final var checkpointPath = createTempFile(".log", "");
+        Files.delete(checkpointPath);
+
+        // Checkpoint after the first two rows, but count them twice to tell whether processing resumed from there.
+        final var position = Files.size(input) - lines.stream().skip(2L).mapToLong(String::length).sum();
+        final TableSupplier firstRows = () -> DATA.get().limit(2L);
+        final var counts = target.toCounts(firstRows).merge(target.toCounts(firstRows));
+        Checkpoint.of(input, position, counts).write(checkpointPath);
+
+        final var expected = lines.size() + 2L;
+        final var given = target.toCounts(new TableFileReader(input), checkpointPath).rows();
+        assert$(given == expected, "Unexpected row count: expected=%d, given=%d".formatted(expected, given));
+        assert$(
+            Checkpoint.read(checkpointPath).orElseThrow().position() == Files.size(input),
+            "Expected checkpoint at the end of the input"
+        );
+    }
 }
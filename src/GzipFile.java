@@ -0,0 +1,511 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * This class reads gzip-compressed files (e.g., {@code .log.gz} flow logs delivered by AWS) without decompressing them
+ *   to disk first.
+ * <br/><br/>
+ *
+ * A gzip file consists of one or more independently compressed members. A single-member file can only be decompressed
+ *   sequentially, so it is streamed line by line using {@link #lines(Path)}. A multi-member file (e.g., several gzip
+ *   files concatenated together) can instead be decompressed one member per thread using
+ *   {@link #chunks(Path, boolean)}, even if its lines span across members.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc1952">RFC 1952: GZIP file format specification</a>
+ */
+final class GzipFile {
+    /**
+     * The file extension of gzip files
+     */
+    static final String EXTENSION = ".gz";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_MEMBER_SIZE = Integer.MAX_VALUE - 8;
+    private static final byte ID1 = 0x1f;
+    private static final byte ID2 = (byte) 0x8b;
+    private static final byte DEFLATE = 8;
+    private static final int HEADER_SIZE = 10;
+    private static final int TRAILER_SIZE = 8;
+    private static final int FHCRC = 1 << 1;
+    private static final int FEXTRA = 1 << 2;
+    private static final int FNAME = 1 << 3;
+    private static final int FCOMMENT = 1 << 4;
+    private static final int RESERVED = 0xe0;
+
+    private final Path path;
+    private final ByteBuffer bytes;
+    private final int[] candidates;
+    private final Set<Integer> ends = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> rejections = ConcurrentHashMap.newKeySet();
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    private GzipFile(Path path, ByteBuffer bytes) {
+        this.path = path;
+        this.bytes = bytes.order(ByteOrder.LITTLE_ENDIAN);
+        final var probed = Arrays.stream(candidates(bytes, HEADER_SIZE)).filter(this::probe).toArray();
+        final var end = probed.length > 0 ? end(0) : -1; // Only inflate the first member if others may follow.
+        candidates = end < 0 || end >= bytes.limit()
+            ? new int[] {0} // Either a single member or an invalid file; either way, it is streamed instead.
+            : IntStream.concat(IntStream.of(0), Arrays.stream(probed).filter(offset -> offset >= end)).toArray();
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Determine whether a given {@link Path}'s file is gzip-compressed by its extension or, failing that, its first two
+     *   bytes.
+     *
+     * @param path The {@link Path} of the file to check
+     */
+    static boolean isGzip(Path path) {
+        if (Optional.ofNullable(path.getFileName()).map(Path::toString).filter(GzipFile::hasExtension).isPresent()) {
+            return true;
+        }
+
+        try (var input = Files.newInputStream(path)) {
+            return hasMagicBytes(input);
+        } catch (IOException exception) {
+            return false; // Let the caller fail on opening the file instead.
+        }
+    }
+
+    /**
+     * Determine whether the next two bytes of a given {@link InputStream} are the gzip magic bytes, consuming them.
+     *
+     * @param input The {@link InputStream} to check
+     *
+     * @throws IOException If the bytes cannot be read
+     */
+    static boolean hasMagicBytes(InputStream input) throws IOException {
+        return input.read() == Byte.toUnsignedInt(ID1) && input.read() == Byte.toUnsignedInt(ID2);
+    }
+
+    /**
+     * Determine whether a given file name has the gzip file extension.
+     *
+     * @param fileName The file name to check
+     */
+    static boolean hasExtension(String fileName) {
+        return fileName.regionMatches(true, fileName.length() - EXTENSION.length(), EXTENSION, 0, EXTENSION.length());
+    }
+
+    /**
+     * Remove the gzip file extension from a given file name, if present (e.g., {@code flows.log.gz} to
+     *   {@code flows.log}).
+     *
+     * @param fileName The file name to remove the gzip file extension from
+     */
+    static String stripExtension(String fileName) {
+        return hasExtension(fileName) ? fileName.substring(0, fileName.length() - EXTENSION.length()) : fileName;
+    }
+
+    /**
+     * Decompress a given {@link Path}'s file lazily into a {@link Stream} of lines, one member after another.
+     *
+     * @param path The {@link Path} of the gzip file to decompress
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while opening the
+     *                              file; exceptions thrown while decompressing are thrown from the {@link Stream}
+     */
+    @SuppressWarnings("resource") // The stream must be closed by the caller.
+    static Stream<String> lines(Path path) throws UncheckedIOException {
+        final var input = openInputStream(path);
+        try {
+            final var reader = new BufferedReader(
+                new InputStreamReader(new GZIPInputStream(input, BUFFER_SIZE), StandardCharsets.UTF_8),
+                BUFFER_SIZE
+            );
+            return reader.lines().onClose(() -> {
+                try {
+                    reader.close();
+                } catch (IOException exception) {
+                    throw new UncheckedIOException("Failed to close file: " + path, exception);
+                }
+            });
+        } catch (IOException exception) {
+            Utils.releaseResources(input);
+            throw new UncheckedIOException("Failed to open gzip file for reading: " + path, exception);
+        }
+    }
+
+    /**
+     * Decompress a given {@link Path}'s multi-member file lazily into a {@link Stream} of {@link FileChunk}s, so that
+     *   every member can be decompressed by a different thread.
+     *
+     * @param path The {@link Path} of the gzip file to decompress
+     * @param skipFirstLine Whether the first line of the file (i.e., the header row) should be excluded
+     * @return A {@link Stream} of decompressed {@link FileChunk}s in file order, or nothing if the file has a single
+     *         member (or is too large to memory-map at once) and should be {@linkplain #lines(Path) streamed} instead
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while mapping the
+     *                              file; exceptions thrown while decompressing are thrown from the {@link Stream}
+     *
+     * @implNote Member boundaries are only known after decompressing the preceding member, so every offset starting
+     *           with a gzip header (and a valid start of a deflate stream) is treated as a candidate member and
+     *           decompressed independently. Candidates whose deflate stream, CRC-32, or size do not check out are
+     *           discarded, since they merely happened to look like a header within another member's compressed data.
+     *           Only if any candidate is found beyond the start of the file is the first member inflated up front
+     *           (without keeping its output) to find where it ends, discarding the candidates within it; single-member
+     *           files are thus recognized by the scan alone and only decompressed once.
+     *           <br/><br/>
+     *
+     *           Every member is decompressed into memory in full. A line may span across members, so every member's
+     *           {@link FileChunk}s start after its first line feed and end with the rest of the line that its last
+     *           line feed starts, which is taken from the beginning of the following members.
+     */
+    static Optional<Stream<FileChunk>> chunks(Path path, boolean skipFirstLine) throws UncheckedIOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+
+            // The mapping remains valid after the channel is closed, so we don't need to hold onto it.
+            final var file = new GzipFile(path, channel.map(FileChannel.MapMode.READ_ONLY, 0L, size));
+            if (file.candidates.length < 2) {
+                return Optional.empty();
+            }
+
+            return Optional.of(Arrays
+                .stream(file.candidates)
+                .mapToObj(offset -> file.decompress(offset, skipFirstLine && offset == 0))
+                .flatMap(Function.identity()));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to map file for reading: " + path, exception);
+        }
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    private static InputStream openInputStream(Path path) throws UncheckedIOException {
+        try {
+            return Files.newInputStream(path);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to open file for reading: " + path, exception);
+        }
+    }
+
+    /**
+     * Find every offset within the given bytes, from a given offset onward, that starts with what looks like a gzip
+     *   member header.
+     */
+    private static int[] candidates(ByteBuffer bytes, int from) {
+        final var limit = bytes.limit() - HEADER_SIZE;
+        var candidates = new int[16];
+        var count = 0;
+
+        for (var offset = from; offset <= limit; offset++) {
+            if (bytes.get(offset) == ID1
+                && bytes.get(offset + 1) == ID2
+                && bytes.get(offset + 2) == DEFLATE
+                && (bytes.get(offset + 3) & RESERVED) == 0) {
+                candidates = count < candidates.length ? candidates : Arrays.copyOf(candidates, count << 1);
+                candidates[count++] = offset;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Find where the member at a given offset ends by inflating it without keeping its output.
+     *
+     * @return The offset immediately following the member's trailer, or {@code -1} if it is not a valid member
+     */
+    private int end(int offset) {
+        final var start = skipHeader(offset);
+        if (start < 0) {
+            return -1;
+        }
+
+        final var inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes.slice(start, bytes.limit() - start));
+            final var output = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                if (inflater.inflate(output) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    return -1;
+                }
+            }
+            final var end = start + inflater.getBytesRead() + TRAILER_SIZE;
+            return end <= bytes.limit() ? (int) end : -1;
+        } catch (DataFormatException exception) {
+            return -1;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Determine whether the candidate member at a given offset starts with a valid deflate stream by inflating up to
+     *   {@value #BUFFER_SIZE} bytes of it, so that most candidates that merely look like a header are discarded before
+     *   committing to decompressing them in full.
+     */
+    private boolean probe(int offset) {
+        final var start = skipHeader(offset);
+        if (start < 0) {
+            return false;
+        }
+
+        final var inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes.slice(start, bytes.limit() - start));
+            final var output = new byte[BUFFER_SIZE];
+            var length = 0;
+            while (length < output.length && !inflater.finished()) {
+                final var inflated = inflater.inflate(output, length, output.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    return false;
+                }
+                length += inflated;
+            }
+            return true;
+        } catch (DataFormatException exception) {
+            return false;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Decompress the candidate member at a given offset into the {@link FileChunk}s of the lines that start within it.
+     *
+     * @return The decompressed lines starting within the member, or nothing if the candidate is not an actual member
+     *
+     * @throws UncheckedIOException If the candidate is an actual member (i.e., it starts the file or immediately
+     *                              follows another member) but fails to decompress, or if it is followed by
+     *                              anything other than another member
+     */
+    private Stream<FileChunk> decompress(int offset, boolean skipFirstLine) throws UncheckedIOException {
+        final var member = inflate(offset);
+        if (member == null) {
+            rejections.add(offset);
+            if (offset == 0 || ends.contains(offset)) {
+                throw error("Failed to decompress gzip member", offset);
+            }
+            return Stream.empty();
+        }
+
+        // Either this or the rejected candidate's thread is guaranteed to see the other's addition.
+        final var end = member.end();
+        ends.add(end);
+        if (rejections.contains(end)) {
+            throw error("Failed to decompress gzip member", end);
+        } else if (end < bytes.limit() && Arrays.binarySearch(candidates, end) < 0) {
+            throw error("Unexpected data after gzip member", end); // Either a corrupt header or trailing garbage.
+        }
+
+        // The line before the first line feed, if any, started within a preceding member, which reads it instead.
+        final var bytes = member.bytes();
+        var start = offset == 0 ? 0 : FileChunk.nextLine(bytes, 0);
+        if (offset != 0 && (start == 0 || bytes.get(start - 1) != '\n')) {
+            return Stream.empty(); // The whole member continues a line that started within a preceding member.
+        }
+        final var lastLine = lastLine(bytes, start);
+        if (skipFirstLine && lastLine > 0) {
+            start = FileChunk.nextLine(bytes, 0);
+        }
+
+        final var chunks = Stream.<FileChunk>builder();
+        if (lastLine > start) {
+            chunks.add(new FileChunk(bytes.slice(start, lastLine - start)));
+        }
+
+        // The last line continues up to the first line feed of the following members, if any.
+        final var tail = bytes.slice(Math.max(start, lastLine), bytes.limit() - Math.max(start, lastLine));
+        final var line = continueLine(tail, end);
+        final var lineStart = skipFirstLine && lastLine == 0 ? FileChunk.nextLine(line, 0) : 0;
+        if (line.limit() > lineStart) {
+            chunks.add(new FileChunk(line.slice(lineStart, line.limit() - lineStart)));
+        }
+        return chunks.build();
+    }
+
+    /**
+     * Find the position immediately following the last line feed within given bytes, from a given position onward.
+     *
+     * @return The position immediately following the last line feed, or {@code 0} if there is none
+     */
+    private static int lastLine(ByteBuffer bytes, int from) {
+        for (var position = bytes.limit(); position > from; position--) {
+            if (bytes.get(position - 1) == '\n') {
+                return position;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Append the beginning of the members starting at a given offset, up to and including their first line feed, to a
+     *   given incomplete line.
+     *
+     * @return The completed line
+     *
+     * @implNote Members that fail to inflate are not reported here, since they are reported when decompressed
+     *           themselves.
+     */
+    private ByteBuffer continueLine(ByteBuffer line, int offset) {
+        var output = new byte[Math.max(line.remaining() << 1, 1 << 8)];
+        var length = line.remaining();
+        line.get(line.position(), output, 0, length);
+
+        while (offset < bytes.limit()) {
+            final var start = skipHeader(offset);
+            if (start < 0) {
+                break;
+            }
+
+            final var inflater = new Inflater(true);
+            try {
+                inflater.setInput(bytes.slice(start, bytes.limit() - start));
+                while (!inflater.finished()) {
+                    if (length == output.length) {
+                        if (length == MAX_MEMBER_SIZE) {
+                            throw error("Line exceeds the maximum decompressed size", offset);
+                        }
+                        output = Arrays.copyOf(output, (int) Math.min((long) length << 1, MAX_MEMBER_SIZE));
+                    }
+
+                    final var inflated = inflater.inflate(output, length, output.length - length);
+                    if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        return ByteBuffer.wrap(output, 0, length).slice();
+                    }
+                    for (var position = length; position < length + inflated; position++) {
+                        if (output[position] == '\n') {
+                            return ByteBuffer.wrap(output, 0, position + 1).slice();
+                        }
+                    }
+                    length += inflated;
+                }
+                offset = start + (int) inflater.getBytesRead() + TRAILER_SIZE;
+            } catch (DataFormatException exception) {
+                break;
+            } finally {
+                inflater.end();
+            }
+        }
+        return ByteBuffer.wrap(output, 0, length).slice();
+    }
+
+    /**
+     * Inflate the candidate member at a given offset, verifying its trailer.
+     *
+     * @return The inflated member, or {@code null} if the candidate is not a valid member
+     */
+    private Member inflate(int offset) {
+        final var start = skipHeader(offset);
+        if (start < 0) {
+            return null;
+        }
+
+        final var inflater = new Inflater(true); // gzip members contain raw deflate streams.
+        try {
+            inflater.setInput(bytes.slice(start, bytes.limit() - start));
+            var output = new byte[BUFFER_SIZE];
+            var length = 0;
+
+            while (!inflater.finished()) {
+                if (length == output.length) {
+                    if (length == MAX_MEMBER_SIZE) {
+                        throw error("Gzip member exceeds the maximum decompressed size", offset);
+                    }
+                    output = Arrays.copyOf(output, (int) Math.min((long) length << 1, MAX_MEMBER_SIZE));
+                }
+
+                final var inflated = inflater.inflate(output, length, output.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    return null; // The deflate stream is truncated or invalid.
+                }
+                length += inflated;
+            }
+
+            final var crc = new CRC32();
+            crc.update(output, 0, length);
+            final var trailer = start + (int) inflater.getBytesRead();
+            if (trailer > bytes.limit() - TRAILER_SIZE
+                || bytes.getInt(trailer) != (int) crc.getValue()
+                || bytes.getInt(trailer + Integer.BYTES) != length) {
+                return null;
+            }
+            return new Member(ByteBuffer.wrap(output, 0, length).slice(), trailer + TRAILER_SIZE);
+        } catch (DataFormatException exception) {
+            return null;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Skip the gzip member header at a given offset.
+     *
+     * @return The offset of the member's deflate stream, or {@code -1} if the header is malformed
+     */
+    private int skipHeader(int offset) {
+        final var limit = bytes.limit();
+        final var flags = bytes.get(offset + 3);
+        var position = offset + HEADER_SIZE;
+
+        if ((flags & FEXTRA) != 0) {
+            position = position + Short.BYTES <= limit
+                ? position + Short.BYTES + Short.toUnsignedInt(bytes.getShort(position))
+                : -1;
+        }
+        for (final var field : new int[] {FNAME, FCOMMENT}) {
+            if ((flags & field) != 0 && position >= 0) {
+                while (position < limit && bytes.get(position) != 0) {
+                    position++;
+                }
+                position = position < limit ? position + 1 : -1; // Skip the zero-terminator.
+            }
+        }
+        if ((flags & FHCRC) != 0 && position >= 0) {
+            position += Short.BYTES;
+        }
+
+        return position >= 0 && position <= limit ? position : -1;
+    }
+
+    private UncheckedIOException error(String message, int offset) {
+        return new UncheckedIOException(new ZipException("%s at offset %d: %s".formatted(message, offset, path)));
+    }
+
+    //==================================================================================================================
+    // Member Support
+    //==================================================================================================================
+
+    /**
+     * This record is a decompressed gzip member.
+     *
+     * @param bytes The decompressed bytes of the member
+     * @param end The offset immediately following the member's trailer within the file
+     */
+    private record Member(ByteBuffer bytes, int end) { }
+}
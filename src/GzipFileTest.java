@@ -0,0 +1,199 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPOutputStream;
+
+class GzipFileTest extends BaseUnitTest {
+    private static final int MEMBERS = ThreadLocalRandom.current().nextInt(2, 10);
+    private static final List<List<String>> LINES = createLines();
+    private static final List<String> ALL_LINES = LINES.stream().flatMap(List::stream).toList();
+    private static final byte[] COMPRESSED_LINES = concat(LINES.stream().map(GzipFileTest::compress).toList());
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void isGzip_givenExtension_willReturnTrue() {
+        assert$(GzipFile.isGzip(Path.of("flows.log.GZ")), "Expected file with gzip extension to be gzip");
+    }
+
+    @Test
+    void isGzip_givenMagicBytesWithoutExtension_willReturnTrue() {
+        final var path = createTempFile(".log", COMPRESSED_LINES);
+        assert$(GzipFile.isGzip(path), "Expected file with gzip magic bytes to be gzip");
+        assert$(!GzipFile.isGzip(Constants.LOOKUP_TABLE_PATH), "Expected plain-text file not to be gzip");
+    }
+
+    @Test
+    void stripExtension_shouldRemoveGzipExtensionOnly() {
+        assert$("flows.log".equals(GzipFile.stripExtension("flows.log.gz")), "Expected gzip extension to be removed");
+        assert$("flows.log".equals(GzipFile.stripExtension("flows.log")), "Expected file name to be unchanged");
+    }
+
+    @Test
+    void lines_givenMultipleMembers_willReadAllLinesInOrder() {
+        final var path = createTempFile(GzipFile.EXTENSION, COMPRESSED_LINES);
+        try (var lines = GzipFile.lines(path)) {
+            assertLines(lines.toList(), ALL_LINES);
+        }
+    }
+
+    @Test
+    void chunks_givenSingleMember_willReturnNothing() {
+        final var path = createTempFile(GzipFile.EXTENSION, compress(ALL_LINES));
+        assert$(GzipFile.chunks(path, false).isEmpty(), "Expected single-member file to be streamed instead");
+    }
+
+    @Test
+    void chunks_givenMultipleMembers_willReadAllLinesInOrder() {
+        final var path = createTempFile(GzipFile.EXTENSION, COMPRESSED_LINES);
+        assertLines(chunkLines(path, false), ALL_LINES);
+    }
+
+    @Test
+    void chunks_givenSkipFirstLine_willSkipHeaderRow() {
+        final var path = createTempFile(GzipFile.EXTENSION, COMPRESSED_LINES);
+        assertLines(chunkLines(path, true), ALL_LINES.subList(1, ALL_LINES.size()));
+    }
+
+    @Test
+    void chunks_givenLinesSpanningAcrossMembers_willReadAllLinesInOrder() {
+        final var path = createTempFile(GzipFile.EXTENSION, concat(compressSplit(ALL_LINES)));
+        assertLines(chunkLines(path, false), ALL_LINES);
+        assertLines(chunkLines(path, true), ALL_LINES.subList(1, ALL_LINES.size()));
+    }
+
+    @Test
+    void chunks_givenCorruptMember_willThrowException() {
+        final var members = new ArrayList<>(LINES.stream().map(GzipFileTest::compress).toList());
+        final var member = members.get(members.size() - 1);
+        member[member.length - 5] ^= 0x01; // Corrupt the uncompressed size within the trailer of the last member.
+
+        final var path = createTempFile(GzipFile.EXTENSION, concat(members));
+        try {
+            chunkLines(path, false);
+            assert$(false, "Expected an exception to be thrown");
+        } catch (UncheckedIOException exception) {
+            // This is expected.
+        }
+    }
+
+    @Test
+    void get_givenGzipFile_willReadSameRowsAsPlainTextFile() {
+        final var plainContent = String.join("\n", ALL_LINES).getBytes(StandardCharsets.UTF_8);
+        final var plainPath = createTempFile(".csv", plainContent);
+        final var gzipPath = createTempFile(".csv.gz", COMPRESSED_LINES);
+        try (var plainRows = new TableFileReader(plainPath).get(); var gzipRows = new TableFileReader(gzipPath).get()) {
+            final var expected = plainRows.toArray(String[][]::new);
+            final var given = gzipRows.toArray(String[][]::new);
+            assert$(
+                equals(given, expected),
+                () -> "Unexpected rows: expected=%s, given=%s".formatted(toString(expected), toString(given))
+            );
+        }
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static void assertLines(List<String> given, List<String> expected) {
+        assert$(expected.equals(given), () -> "Unexpected lines: expected=%s, given=%s".formatted(expected, given));
+    }
+
+    private static List<String> chunkLines(Path path, boolean skipFirstLine) {
+        final var chunks = GzipFile.chunks(path, skipFirstLine).orElseThrow();
+        return chunks.parallel().flatMap(FileChunk::lines).toList();
+    }
+
+    private static List<List<String>> createLines() {
+        final var random = ThreadLocalRandom.current();
+        final var lines = new ArrayList<List<String>>();
+        var row = 0;
+        for (var member = 0; member < MEMBERS; member++) {
+            final var memberLines = new ArrayList<String>();
+            for (var count = random.nextInt(1, 100); count > 0; count--) {
+                memberLines.add("%d,%s".formatted(row++, "x".repeat(random.nextInt(100))));
+            }
+            lines.add(memberLines);
+        }
+        return lines;
+    }
+
+    /**
+     * Compress given lines into a single gzip member, terminating every line (including the last) with a line feed so
+     *   that lines do not span across members.
+     */
+    private static byte[] compress(List<String> lines) {
+        final var bytes = new ByteArrayOutputStream();
+        try (var output = new GZIPOutputStream(bytes)) {
+            for (final var line : lines) {
+                output.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to compress lines for testing", exception);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Compress given lines into multiple gzip members that are cut at random positions, including within lines (so that
+     *   some lines span across two or more members) and right after line feeds, with some members left empty.
+     */
+    private static List<byte[]> compressSplit(List<String> lines) {
+        final var content = (String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8);
+        final var random = ThreadLocalRandom.current();
+        final var members = new ArrayList<byte[]>();
+        for (var start = 0; start < content.length; ) {
+            final var end = switch (random.nextInt(4)) {
+                case 0 -> start; // An empty member
+                case 1 -> Math.min(start + random.nextInt(1, 16), content.length); // Likely within a single line
+                case 2 -> indexOf(content, (byte) '\n', start) + 1; // Right after a line feed
+                default -> Math.min(start + random.nextInt(1, 1 << 10), content.length);
+            };
+            members.add(compress(Arrays.copyOfRange(content, start, end)));
+            start = end;
+        }
+        return members;
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int from) {
+        for (var index = from; index < bytes.length; index++) {
+            if (bytes[index] == value) {
+                return index;
+            }
+        }
+        return bytes.length - 1;
+    }
+
+    private static byte[] compress(byte[] content) {
+        final var bytes = new ByteArrayOutputStream();
+        try (var output = new GZIPOutputStream(bytes)) {
+            output.write(content);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to compress bytes for testing", exception);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] concat(List<byte[]> contents) {
+        final var bytes = new ByteArrayOutputStream();
+        contents.forEach(bytes::writeBytes);
+        return bytes.toByteArray();
+    }
+}
@@ -1,5 +1,7 @@
 import java.io.Serial;
 import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -24,11 +26,15 @@ import java.util.stream.Stream;
  *   8,EGP,Exterior Gateway Protocol,,[RFC888][David_Mills]
  * }
  *
+ * In addition to its {@link Map} API, protocols can be looked up by their numbers using {@link #get(int)}, which is
+ *   backed by an array indexed by protocol number instead of hashing a {@link String} key.
+ *
  * @see <a href="https://www.iana.org/assignments/protocol-numbers/protocol-numbers.xhtml">IANA Protocol Numbers (Spec)</a>
  * @see <a href="https://www.iana.org/assignments/protocol-numbers/protocol-numbers-1.csv">IANA Protocol Numbers (CSV)</a>
  */
 class IANAProtocols extends TableMap<String, Protocol> {
     private static final @Serial long serialVersionUID = 1L;
+    private static final int NUMBERS = 1 << 8;
     private static final int DECIMAL = 0;
     private static final int KEYWORD = 1;
     private static final UnaryOperator<Stream<String[]>> MAPPER =
@@ -36,6 +42,8 @@ class IANAProtocols extends TableMap<String, Protocol> {
     private static final Collector<String[], ?, ? extends Map<String, Protocol>> COLLECTOR =
         Collectors.toConcurrentMap(columns -> columns[DECIMAL], columns -> Protocol.of(columns[DECIMAL], columns[KEYWORD]));
 
+    private transient volatile Protocol[] protocols; // Indexed by protocol number; built lazily and reset on writes
+
     //==================================================================================================================
     // Constructors
     //==================================================================================================================
@@ -56,4 +64,152 @@ class IANAProtocols extends TableMap<String, Protocol> {
     IANAProtocols(TableSupplier data) {
         super(data, MAPPER, COLLECTOR);
     }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Retrieve the {@link Protocol} assigned a given protocol number.
+     *
+     * @param number The protocol number to retrieve the {@link Protocol} of
+     * @return The {@link Protocol} assigned the given protocol number, or {@code null} if there is none; this is the
+     *         same as {@code get(String.valueOf(number))}
+     *
+     * @implNote The lookup array is rebuilt from this {@link IANAProtocols}' mappings on the first lookup after every
+     *           modification made through its {@link Map} API. Modifications made through its
+     *           {@linkplain #keySet() views} are not tracked.
+     */
+    Protocol get(int number) {
+        if (number < 0 || number >= NUMBERS) {
+            return null;
+        }
+
+        final var protocols = this.protocols;
+        return (protocols != null ? protocols : index())[number];
+    }
+
+    /**
+     * Retrieve the {@link Protocol} assigned a given protocol number.
+     *
+     * @param number The protocol number to retrieve the {@link Protocol} of
+     * @param defaultProtocol The {@link Protocol} to return if the given protocol number is not assigned
+     * @return The {@link Protocol} assigned the given protocol number, or the given default {@link Protocol} if there
+     *         is none
+     */
+    Protocol getOrDefault(int number, Protocol defaultProtocol) {
+        final var protocol = get(number);
+        return protocol != null ? protocol : defaultProtocol;
+    }
+
+    //==================================================================================================================
+    // Map Implementation Methods
+    //==================================================================================================================
+
+    @Override
+    public Protocol put(String key, Protocol value) {
+        return invalidate(super.put(key, value));
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Protocol> map) {
+        super.putAll(map);
+        invalidate(null);
+    }
+
+    @Override
+    public Protocol putIfAbsent(String key, Protocol value) {
+        return invalidate(super.putIfAbsent(key, value));
+    }
+
+    @Override
+    public Protocol remove(Object key) {
+        return invalidate(super.remove(key));
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        return invalidate(super.remove(key, value));
+    }
+
+    @Override
+    public Protocol replace(String key, Protocol value) {
+        return invalidate(super.replace(key, value));
+    }
+
+    @Override
+    public boolean replace(String key, Protocol oldValue, Protocol newValue) {
+        return invalidate(super.replace(key, oldValue, newValue));
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Protocol, ? extends Protocol> function) {
+        super.replaceAll(function);
+        invalidate(null);
+    }
+
+    @Override
+    public Protocol computeIfAbsent(String key, Function<? super String, ? extends Protocol> mappingFunction) {
+        return invalidate(super.computeIfAbsent(key, mappingFunction));
+    }
+
+    @Override
+    public Protocol computeIfPresent(
+        String key,
+        BiFunction<? super String, ? super Protocol, ? extends Protocol> remappingFunction
+    ) {
+        return invalidate(super.computeIfPresent(key, remappingFunction));
+    }
+
+    @Override
+    public Protocol compute(
+        String key,
+        BiFunction<? super String, ? super Protocol, ? extends Protocol> remappingFunction
+    ) {
+        return invalidate(super.compute(key, remappingFunction));
+    }
+
+    @Override
+    public Protocol merge(
+        String key,
+        Protocol value,
+        BiFunction<? super Protocol, ? super Protocol, ? extends Protocol> remappingFunction
+    ) {
+        return invalidate(super.merge(key, value, remappingFunction));
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        invalidate(null);
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Build the lookup array from the current mappings, unless another thread already has.
+     *
+     * @implNote Building and {@linkplain #invalidate(Object) invalidating} are serialized, so a modification that
+     *           completes while the lookup array is being built always invalidates it afterward.
+     */
+    private synchronized Protocol[] index() {
+        if (protocols == null) {
+            final var protocols = new Protocol[NUMBERS];
+            for (var number = 0; number < NUMBERS; number++) {
+                protocols[number] = super.get(String.valueOf(number));
+            }
+            this.protocols = protocols;
+        }
+        return protocols;
+    }
+
+    /**
+     * Discard the lookup array after a modification, passing through the modification's result.
+     */
+    private synchronized <T> T invalidate(T result) {
+        protocols = null;
+        return result;
+    }
 }
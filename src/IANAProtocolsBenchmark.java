@@ -0,0 +1,51 @@
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class benchmarks looking up {@value #SIZE} random protocol numbers in {@link Constants#IANA_PROTOCOLS}, both by
+ *   their decimal {@link String}s and by their numbers.
+ */
+class IANAProtocolsBenchmark extends BaseBenchmark {
+    private static final int SIZE = 1 << 10;
+
+    private final IANAProtocols ianaProtocols = Constants.IANA_PROTOCOLS.get();
+    private final String[] decimals = new String[SIZE];
+    private final int[] numbers = new int[SIZE];
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String... args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    IANAProtocolsBenchmark() {
+        final var random = ThreadLocalRandom.current();
+        for (var index = 0; index < SIZE; index++) {
+            numbers[index] = random.nextInt(1 << 8);
+            decimals[index] = String.valueOf(numbers[index]);
+        }
+    }
+
+    //==================================================================================================================
+    // Benchmarks
+    //==================================================================================================================
+
+    @Benchmark
+    void getOrDefaultByDecimal(Blackhole blackhole) {
+        for (var index = 0; index < SIZE; index++) {
+            blackhole.consume(ianaProtocols.getOrDefault(decimals[index], Protocol.UNKNOWN));
+        }
+    }
+
+    @Benchmark
+    void getOrDefaultByNumber(Blackhole blackhole) {
+        for (var index = 0; index < SIZE; index++) {
+            blackhole.consume(ianaProtocols.getOrDefault(numbers[index], Protocol.UNKNOWN));
+        }
+    }
+}
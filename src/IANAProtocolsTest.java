@@ -27,4 +27,27 @@ class IANAProtocolsTest extends BaseUnitTest {
         assert$(TARGET.remove("1", Protocol.of("1", "ICMP")), "Expected mapping to exist");
         assert$(TARGET.remove("2", Protocol.of("2", "IGMP")), "Expected mapping to exist");
     }
+
+    @Test
+    void get_shouldLookUpByNumber() {
+        final var target = new IANAProtocols(DATA);
+        assert$(Protocol.of("1", "ICMP").equals(target.get(1)), "Expected protocol number to be assigned");
+        assert$(target.get(3) == null, "Expected protocol number to be unassigned");
+        assert$(target.get(-1) == null && target.get(256) == null, "Expected protocol number to be out of range");
+        assert$(target.getOrDefault(3, Protocol.UNKNOWN) == Protocol.UNKNOWN, "Expected default protocol");
+    }
+
+    @Test
+    void get_shouldReflectModifications() {
+        final var target = new IANAProtocols(DATA);
+        assert$(target.get(2) != null, "Expected protocol number to be assigned");
+
+        target.remove("2");
+        target.put("3", Protocol.of("3", "GGP"));
+        assert$(target.get(2) == null, "Expected removal to be reflected");
+        assert$(Protocol.of("3", "GGP").equals(target.get(3)), "Expected insertion to be reflected");
+
+        target.clear();
+        assert$(target.get(0) == null, "Expected clearing to be reflected");
+    }
 }
@@ -0,0 +1,269 @@
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is a minimal implementation of JSON serialization and deserialization that does not require external JSON
+ *   dependencies (e.g., Jackson, Gson), meant for small machine-readable reports.
+ * <br/><br/>
+ *
+ * JSON values are represented using the following Java types:
+ * <ul>
+ *   <li>Objects: {@link Map}s with {@link String} keys (deserialized as insertion-ordered {@link LinkedHashMap}s)</li>
+ *   <li>Arrays: {@link Iterable}s (deserialized as {@link ArrayList}s)</li>
+ *   <li>Strings: {@link CharSequence}s (deserialized as {@link String}s)</li>
+ *   <li>Numbers: {@link Number}s (deserialized as {@link Long}s if integral; otherwise, {@link Double}s)</li>
+ *   <li>Booleans: {@link Boolean}s</li>
+ *   <li>{@code null}: {@code null}</li>
+ * </ul>
+ */
+final class Json {
+    private static final String INDENT = "  ";
+
+    private final String json;
+    private int index;
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    private Json(String json) {
+        this.json = json;
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Serialize a given value into indented JSON.
+     *
+     * @param value The value to serialize
+     * @return The JSON representation of the given value
+     *
+     * @throws IllegalArgumentException If the given value (or any value it contains) cannot be represented in JSON
+     */
+    static String write(Object value) throws IllegalArgumentException {
+        return write(new StringBuilder(), value, "").toString();
+    }
+
+    /**
+     * Deserialize a given JSON document.
+     *
+     * @param json The JSON document to deserialize
+     * @return The deserialized value of the given JSON document
+     *
+     * @throws IllegalArgumentException If the given JSON document is malformed
+     */
+    static Object parse(String json) throws IllegalArgumentException {
+        final var parser = new Json(json);
+        final var value = parser.value();
+        parser.skipWhitespace();
+        if (parser.index < json.length()) {
+            throw parser.error("Unexpected trailing content");
+        }
+        return value;
+    }
+
+    //==================================================================================================================
+    // Serialization Support
+    //==================================================================================================================
+
+    private static StringBuilder write(StringBuilder json, Object value, String indent) {
+        switch (value) {
+            case null -> json.append("null");
+            case Boolean bool -> json.append(bool);
+            case Double number when number.isNaN() || number.isInfinite() -> json.append("null");
+            case Float number when number.isNaN() || number.isInfinite() -> json.append("null");
+            case Number number -> json.append(number);
+            case CharSequence string -> writeString(json, string);
+            case Map<?, ?> map -> {
+                final var nestedIndent = indent + INDENT;
+                json.append('{');
+                var first = true;
+                for (final var entry : map.entrySet()) {
+                    json.append(first ? "" : ",").append(System.lineSeparator()).append(nestedIndent);
+                    writeString(json, String.valueOf(entry.getKey())).append(": ");
+                    write(json, entry.getValue(), nestedIndent);
+                    first = false;
+                }
+                json.append(first ? "" : System.lineSeparator() + indent).append('}');
+            }
+            case Iterable<?> iterable -> {
+                final var nestedIndent = indent + INDENT;
+                json.append('[');
+                var first = true;
+                for (final var element : iterable) {
+                    json.append(first ? "" : ",").append(System.lineSeparator()).append(nestedIndent);
+                    write(json, element, nestedIndent);
+                    first = false;
+                }
+                json.append(first ? "" : System.lineSeparator() + indent).append(']');
+            }
+            default -> throw new IllegalArgumentException("Cannot serialize into JSON: " + value.getClass());
+        }
+        return json;
+    }
+
+    private static StringBuilder writeString(StringBuilder json, CharSequence string) {
+        json.append('"');
+        for (var index = 0; index < string.length(); index++) {
+            final var character = string.charAt(index);
+            switch (character) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> json.append(character < ' ' ? "\\u%04x".formatted((int) character) : character);
+            }
+        }
+        return json.append('"');
+    }
+
+    //==================================================================================================================
+    // Deserialization Support
+    //==================================================================================================================
+
+    private Object value() {
+        skipWhitespace();
+        if (index >= json.length()) {
+            throw error("Unexpected end of JSON");
+        }
+
+        return switch (json.charAt(index)) {
+            case '{' -> object();
+            case '[' -> array();
+            case '"' -> string();
+            case 't' -> literal("true", Boolean.TRUE);
+            case 'f' -> literal("false", Boolean.FALSE);
+            case 'n' -> literal("null", null);
+            default -> number();
+        };
+    }
+
+    private Map<String, Object> object() {
+        final var object = new LinkedHashMap<String, Object>();
+        index++; // Skip the opening brace.
+        if (consume('}')) {
+            return object;
+        }
+
+        do {
+            skipWhitespace();
+            if (index >= json.length() || json.charAt(index) != '"') {
+                throw error("Expected a string key");
+            }
+            final var key = string();
+            expect(':');
+            object.put(key, value());
+        } while (consume(','));
+        expect('}');
+        return object;
+    }
+
+    private List<Object> array() {
+        final var array = new ArrayList<>();
+        index++; // Skip the opening bracket.
+        if (consume(']')) {
+            return array;
+        }
+
+        do {
+            array.add(value());
+        } while (consume(','));
+        expect(']');
+        return array;
+    }
+
+    private String string() {
+        final var string = new StringBuilder();
+        index++; // Skip the opening quote.
+        while (index < json.length()) {
+            final var character = json.charAt(index++);
+            if (character == '"') {
+                return string.toString();
+            } else if (character != '\\') {
+                string.append(character);
+                continue;
+            } else if (index >= json.length()) {
+                break;
+            }
+
+            switch (json.charAt(index++)) {
+                case '"' -> string.append('"');
+                case '\\' -> string.append('\\');
+                case '/' -> string.append('/');
+                case 'b' -> string.append('\b');
+                case 'f' -> string.append('\f');
+                case 'n' -> string.append('\n');
+                case 'r' -> string.append('\r');
+                case 't' -> string.append('\t');
+                case 'u' -> {
+                    if (index + 4 > json.length()) {
+                        throw error("Incomplete unicode escape");
+                    }
+                    try {
+                        string.append((char) Integer.parseInt(json, index, index + 4, 16));
+                    } catch (NumberFormatException exception) {
+                        throw error("Malformed unicode escape");
+                    }
+                    index += 4;
+                }
+                default -> throw error("Unknown escape sequence");
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private Number number() {
+        final var start = index;
+        var integral = true;
+        while (index < json.length() && "+-0123456789.eE".indexOf(json.charAt(index)) >= 0) {
+            integral &= Character.isDigit(json.charAt(index)) || (index == start && json.charAt(index) == '-');
+            index++;
+        }
+
+        final var number = json.substring(start, index);
+        try {
+            return integral ? (Number) Long.parseLong(number) : (Number) Double.parseDouble(number);
+        } catch (NumberFormatException exception) {
+            index = start;
+            throw error("Malformed number");
+        }
+    }
+
+    private Object literal(String literal, Object value) {
+        if (!json.startsWith(literal, index)) {
+            throw error("Unknown literal");
+        }
+        index += literal.length();
+        return value;
+    }
+
+    private boolean consume(char character) {
+        skipWhitespace();
+        if (index < json.length() && json.charAt(index) == character) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char character) {
+        if (!consume(character)) {
+            throw error("Expected '%c'".formatted(character));
+        }
+    }
+
+    private void skipWhitespace() {
+        while (index < json.length() && Character.isWhitespace(json.charAt(index))) {
+            index++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("%s at index %d of JSON".formatted(message, index));
+    }
+}
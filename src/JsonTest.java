@@ -0,0 +1,50 @@
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class JsonTest extends BaseUnitTest {
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void parse_givenWrittenValue_willReturnEqualValue() {
+        final var expected = new LinkedHashMap<String, Object>();
+        expected.put("string", "quote\" backslash\\ newline\n tab\t control\u0001 unicodeé");
+        expected.put("integer", -42L);
+        expected.put("decimal", 1.5E-3);
+        expected.put("booleans", List.of(true, false));
+        expected.put("null", null);
+        expected.put("nested", Map.of("empty", List.of(), "object", Map.of()));
+
+        final var given = Json.parse(Json.write(expected));
+        assert$(expected.equals(given), () -> "Unexpected value: expected=%s, given=%s".formatted(expected, given));
+    }
+
+    @Test
+    void write_givenNonFiniteNumber_willWriteNull() {
+        final var given = Json.write(List.of(Double.NaN, Double.POSITIVE_INFINITY));
+        assert$(Json.parse(given).equals(Arrays.asList(null, null)), () -> "Unexpected JSON: " + given);
+    }
+
+    @Test
+    void parse_givenMalformedJson_willThrowException() {
+        for (final var json : List.of("", "{", "[1,]", "{\"a\" 1}", "\"unterminated", "tru", "1 2", "{1: 2}", "1.2.3")) {
+            try {
+                Json.parse(json);
+                assert$(false, "Expected malformed JSON to be rejected: " + json);
+            } catch (IllegalArgumentException exception) {
+                // This is expected.
+            }
+        }
+    }
+}
@@ -3,6 +3,12 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 
 public class Main {
+    private static final String FOLLOW = "follow";
+    private static final String RETAG = "retag";
+    private static final String PARTIAL = "partial";
+    private static final String MERGE = "merge";
+    private static final String SHARD = "shard";
+
     //==================================================================================================================
     // Bootstrap
     //==================================================================================================================
@@ -11,6 +17,57 @@ public class Main {
         final var overwrite = Settings.OVERWRITE ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.CREATE_NEW;
         final OpenOption[] options = {StandardOpenOption.CREATE, overwrite};
 
+        switch (args.length > 0 ? args[0] : "") {
+            case FOLLOW -> {
+                // Follow a growing flow log file, overwriting the output with the updated counts as lines are appended.
+                final var input = args.length > 1 ? Path.of(args[1]) : Constants.INPUT_PATH;
+                final var output = output(args, 3);
+                new FlowLogFollower(input, tags(args, 2), () -> new TableFileWriter(output)).run();
+            }
+            case RETAG -> {
+                // Tag the combination counts saved by an earlier run (-Dsavecounts=true) without reading the flow log.
+                final var counts = CountsFile.read(args.length > 1 ? Path.of(args[1]) : Constants.COUNTS_PATH).counts();
+                final var output = new TableFileWriter(output(args, 3), options);
+                new FlowLogProcessor(TableSupplier.NOOP, tags(args, 2), output).retag(counts);
+            }
+            case PARTIAL -> {
+                // Save the partial counts of a part of a flow log (e.g., on one of many machines) to be merged later.
+                final var input = args.length > 1
+                    ? TableFileSet.open(args[1])
+                    : new TableFileReader(Constants.INPUT_PATH);
+                final var output = args.length > 2 ? Path.of(args[2]) : Constants.COUNTS_PATH;
+                new FlowLogProcessor(input, TableConsumer.NOOP).save(output);
+            }
+            case MERGE -> {
+                // Merge the partial counts matching a path, directory, or glob pattern, and tag the merged counts.
+                final var partials = new TableFileSet(args.length > 1 ? args[1] : Constants.COUNTS_PATH.toString());
+                final var partial = CountsFile.merge(partials.paths());
+                Loggers.INFO.accept("[#] Merged partial counts: " + partial.aggregates());
+                if (Settings.SAVE_COUNTS) {
+                    CountsFile.write(Constants.COUNTS_PATH, partial); // Allow the merged counts to be merged again.
+                }
+
+                final var output = new TableFileWriter(output(args, 3), options);
+                new FlowLogProcessor(TableSupplier.NOOP, tags(args, 2), output).retag(partial.counts());
+            }
+            case SHARD -> {
+                // Split the flow log files matching a path, directory, or glob pattern across child JVMs.
+                final var input = new TableFileSet(args.length > 1 ? args[1] : Constants.INPUT_PATH.toString());
+                new ShardCoordinator(input, tags(args, 2), new TableFileWriter(output(args, 3), options)).run();
+            }
+            default -> run(args, options);
+        }
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Run the program using randomly generated data if the first argument is a number, or using the file paths given
+     *   as arguments otherwise.
+     */
+    private static void run(String[] args, OpenOption[] options) {
         try {
             // Run the program using randomly generated data if the first argument provided is a number.
             final var input = FlowLogGenerator.ofMebibytes(Double.parseDouble(args[0]));
@@ -18,10 +75,23 @@ public class Main {
             new FlowLogProcessor(input, output).run();
         } catch (NumberFormatException | ArrayIndexOutOfBoundsException exception) {
             // Otherwise, run the program using file paths provided.
-            final var input = new TableFileReader(args.length > 0 ? Path.of(args[0]) : Constants.INPUT_PATH);
-            final var tags = args.length > 1 ? new Tags(new TableFileReader(Path.of(args[1]))) : Constants.TAGS;
-            final var output = new TableFileWriter(args.length > 2 ? Path.of(args[2]) : Constants.OUTPUT_PATH, options);
-            new FlowLogProcessor(input, tags, output).run();
+            // The first argument may also be a directory or a glob pattern matching many flow log files.
+            final var input = args.length > 0 ? TableFileSet.open(args[0]) : new TableFileReader(Constants.INPUT_PATH);
+            new FlowLogProcessor(input, tags(args, 1), new TableFileWriter(output(args, 2), options)).run();
         }
     }
+
+    /**
+     * Load the lookup table at a given argument index, or the default lookup table if there is no such argument.
+     */
+    private static Tags tags(String[] args, int index) {
+        return args.length > index ? new Tags(new TableFileReader(Path.of(args[index]))) : Constants.TAGS.get();
+    }
+
+    /**
+     * Retrieve the output path at a given argument index, or the default output path if there is no such argument.
+     */
+    private static Path output(String[] args, int index) {
+        return args.length > index ? Path.of(args[index]) : Constants.OUTPUT_PATH;
+    }
 }
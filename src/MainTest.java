@@ -35,4 +35,34 @@ class MainTest extends BaseUnitTest {
         Main.main(Constants.INPUT_PATH.toString());
         assert$(Files.exists(Constants.OUTPUT_PATH), "Expected output file to exist: " + Constants.OUTPUT_PATH);
     }
+
+    @Test
+    void main_givenGlobAsFirstArgument_willRunProgramUsingMatchingPaths() throws IOException {
+        Files.deleteIfExists(Constants.OUTPUT_PATH);
+        Main.main(Constants.INPUT_PATH.resolveSibling("*" + Constants.INPUT_PATH.getFileName()).toString());
+        assert$(Files.exists(Constants.OUTPUT_PATH), "Expected output file to exist: " + Constants.OUTPUT_PATH);
+    }
+
+    @Test
+    void main_givenRetagAsFirstArgument_willRunProgramUsingSavedCounts() throws IOException {
+        final var counts = createTempFile(null, "");
+        CountsFile.write(counts, PartialCounts.of(new FlowCounts()));
+
+        Files.deleteIfExists(Constants.OUTPUT_PATH);
+        Main.main("retag", counts.toString());
+        assert$(Files.exists(Constants.OUTPUT_PATH), "Expected output file to exist: " + Constants.OUTPUT_PATH);
+    }
+
+    @Test
+    void main_givenPartialAndMergeAsFirstArguments_willRunProgramUsingMergedCounts() throws IOException {
+        final var directory = createTempDirectory();
+        final var partial = directory.resolve("partial.bin");
+        partial.toFile().deleteOnExit(); // Delete the file after the JVM terminates.
+        Main.main("partial", Constants.INPUT_PATH.toString(), partial.toString());
+        assert$(Files.exists(partial), "Expected partial counts file to exist: " + partial);
+
+        Files.deleteIfExists(Constants.OUTPUT_PATH);
+        Main.main("merge", directory.toString());
+        assert$(Files.exists(Constants.OUTPUT_PATH), "Expected output file to exist: " + Constants.OUTPUT_PATH);
+    }
 }
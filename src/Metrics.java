@@ -0,0 +1,497 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class records where {@link FlowLogProcessor} spends its time while counting and tagging a flow log, along with
+ *   the bytes read, the memory allocated by every thread, the garbage collections, and the {@link Protocol#CACHE}
+ *   lookups, and reports them as a machine-readable JSON summary (see {@link Settings#METRICS}).
+ * <br/><br/>
+ *
+ * The time and number of operations of every {@link Stage} are recorded by wrapping its operations in
+ *   {@link #start()} and {@link #stop(Stage, long, long)}; both do nothing unless the {@link Settings#METRICS} setting
+ *   is enabled, so the just-in-time compiler removes them entirely otherwise. Per-row stages (i.e.,
+ *   {@link Stage#TOKENIZE} and {@link Stage#AGGREGATE}) are timed in batches of {@link #BATCH_SIZE} rows rather than
+ *   row by row, so that recording them does not slow down the very throughput being reported.
+ *
+ * @implNote Stage times are summed over every thread, so they may exceed the wall-clock duration when counting in
+ *           parallel. Reading lines is interleaved with tokenizing them within a single pass over the file, except in
+ *           a {@link FlowLogPipeline} whose readers fill whole buffers, so only the pipeline records the time of the
+ *           {@link Stage#READ} stage; the bytes read are recorded for every file regardless. IANA lookups happen while
+ *           aggregating (or tokenizing, in a {@link FlowLogPipeline}) and while writing, so their time is also included
+ *           in those stages.
+ */
+final class Metrics {
+    /**
+     * Whether metrics are recorded at all; see {@link Settings#METRICS}
+     */
+    static final boolean ENABLED = Settings.METRICS;
+
+    /**
+     * The number of rows whose per-row stages are timed together while metrics are recorded, or {@code 1} otherwise
+     */
+    static final int BATCH_SIZE = ENABLED ? 1 << 10 : 1;
+
+    private static final LongAdder[] TIMES = adders();
+    private static final LongAdder[] COUNTS = adders();
+    private static final LongAdder BYTES = new LongAdder();
+    private static final Map<String, Long> EXITED_THREADS = new ConcurrentHashMap<>();
+    private static final Baseline BASELINE = new Baseline();
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    private Metrics() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Start timing an operation of a {@link Stage}.
+     *
+     * @return The start time to pass to {@link #stop(Stage, long)}, or {@code 0} if metrics are not recorded
+     */
+    static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Stop timing a single operation of a given {@link Stage}.
+     *
+     * @param stage The {@link Stage} of the operation
+     * @param startTime The start time returned by {@link #start()}
+     */
+    static void stop(Stage stage, long startTime) {
+        stop(stage, startTime, 1L);
+    }
+
+    /**
+     * Stop timing a given number of operations of a given {@link Stage} performed together (e.g., a batch).
+     *
+     * @param stage The {@link Stage} of the operations
+     * @param startTime The start time returned by {@link #start()}
+     * @param count The number of operations
+     */
+    static void stop(Stage stage, long startTime, long count) {
+        if (ENABLED) {
+            TIMES[stage.ordinal()].add(System.nanoTime() - startTime);
+            COUNTS[stage.ordinal()].add(count);
+        }
+    }
+
+    /**
+     * Map the elements of a given {@link Stream} using a given {@link Function} that performs an operation of a given
+     *   {@link Stage}, timing the operations in batches of {@link #BATCH_SIZE} elements.
+     *
+     * @param stream The {@link Stream} whose elements to map
+     * @param stage The {@link Stage} of the operation performed by {@code mapper}
+     * @param mapper The {@link Function} to map every element with
+     * @param <T> The type of elements of the given {@link Stream}
+     * @param <R> The type of elements of the returned {@link Stream}
+     * @return The {@link Stream} of mapped elements, which closes the given {@link Stream} when closed
+     *
+     * @implNote The elements of a batch are pulled from the given {@link Stream} before the batch is timed, so only
+     *           the mapping is recorded. If metrics are not recorded, this is equivalent to
+     *           {@link Stream#map(Function)}.
+     */
+    static <T, R> Stream<R> map(Stream<T> stream, Stage stage, Function<? super T, ? extends R> mapper) {
+        if (!ENABLED) {
+            return stream.map(mapper);
+        }
+        return StreamSupport
+            .stream(new BatchSpliterator<T, R>(stream.spliterator(), stage, mapper), stream.isParallel())
+            .onClose(stream::close);
+    }
+
+    /**
+     * Stop timing the opening of a given flow log file, recording its size as the number of bytes read from it.
+     *
+     * @param path The {@link Path} of the flow log file
+     * @param startTime The start time returned by {@link #start()}
+     */
+    static void open(Path path, long startTime) {
+        if (ENABLED) {
+            stop(Stage.OPEN, startTime);
+            try {
+                BYTES.add(Files.size(path));
+            } catch (IOException exception) {
+                // The file will fail to be read anyway; there is nothing to record.
+            }
+        }
+    }
+
+    /**
+     * Record a given number of bytes read from flow log files.
+     */
+    static void read(long bytes) {
+        if (ENABLED) {
+            BYTES.add(bytes);
+        }
+    }
+
+    /**
+     * Record the memory allocated by the current thread before it terminates, since it can no longer be retrieved
+     *   afterward.
+     */
+    static void exit() {
+        if (ENABLED && threads() != null && !Thread.currentThread().isVirtual()) {
+            final var allocated = threads().getCurrentThreadAllocatedBytes();
+            if (allocated > 0) {
+                EXITED_THREADS.merge(Thread.currentThread().getName(), allocated, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Discard everything recorded so far and start recording anew (e.g., once warming up is done).
+     */
+    static void reset() {
+        if (ENABLED) {
+            Arrays.stream(TIMES).forEach(LongAdder::reset);
+            Arrays.stream(COUNTS).forEach(LongAdder::reset);
+            BYTES.reset();
+            EXITED_THREADS.clear();
+            BASELINE.take();
+        }
+    }
+
+    /**
+     * Summarize everything recorded since the last {@link #reset()}.
+     *
+     * @param rows The number of flow log rows processed
+     * @return The summary as a JSON-serializable {@link Map}; see {@link Json}
+     */
+    static Map<String, Object> report(long rows) {
+        final var seconds = (System.nanoTime() - BASELINE.startTime) / 1e9;
+        final var bytes = BYTES.sum();
+        final var report = new LinkedHashMap<String, Object>();
+        report.put("rows", rows);
+        report.put("bytes", bytes);
+        report.put("seconds", seconds);
+        report.put("rowsPerSecond", rows / seconds);
+        report.put("mebibytesPerSecond", bytes / (double) Constants.MEBIBYTE_SCALE / seconds);
+
+        final var stages = new LinkedHashMap<String, Object>();
+        for (final var stage : Stage.values()) {
+            stages.put(stage.key, Map.of(
+                "count", COUNTS[stage.ordinal()].sum(),
+                "seconds", TIMES[stage.ordinal()].sum() / 1e9
+            ));
+        }
+        report.put("stages", stages);
+        report.put("allocation", allocation());
+        report.put("garbageCollection", garbageCollection());
+
+        report.put("protocolCache", protocolCache());
+        return report;
+    }
+
+    /**
+     * Write the summary of everything recorded since the last {@link #reset()} to a given JSON file.
+     *
+     * @param path The {@link Path} of the JSON file
+     * @param rows The number of flow log rows processed
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while writing the
+     *                              JSON file
+     */
+    static void write(Path path, long rows) throws UncheckedIOException {
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Files.writeString(path, Json.write(report(rows)) + System.lineSeparator());
+            Loggers.INFO.accept("[<] Wrote metrics: " + path);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to write metrics: " + path, exception);
+        }
+    }
+
+    /**
+     * Retrieve the number of bytes read from flow log files since the last {@link #reset()}.
+     */
+    static long bytes() {
+        return BYTES.sum();
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    private static LongAdder[] adders() {
+        final var adders = new LongAdder[Stage.values().length];
+        Arrays.setAll(adders, stage -> new LongAdder());
+        return adders;
+    }
+
+    /**
+     * Retrieve the {@link com.sun.management.ThreadMXBean}, or {@code null} if per-thread allocation cannot be
+     *   measured by this Java virtual machine.
+     */
+    private static com.sun.management.ThreadMXBean threads() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+            && threads.isThreadAllocatedMemorySupported()
+            && threads.isThreadAllocatedMemoryEnabled()
+            ? threads
+            : null;
+    }
+
+    /**
+     * Summarize the memory allocated by every thread since the last {@link #reset()}, including the threads that
+     *   {@linkplain #exit() exited} since.
+     */
+    private static Map<String, Object> allocation() {
+        final var threads = new TreeMap<>(EXITED_THREADS);
+        if (threads() != null) {
+            final var ids = threads().getAllThreadIds();
+            final var allocated = threads().getThreadAllocatedBytes(ids);
+            final var infos = threads().getThreadInfo(ids);
+            for (var index = 0; index < ids.length; index++) {
+                final var bytes = allocated[index] - BASELINE.allocations.getOrDefault(ids[index], 0L);
+                if (infos[index] != null && allocated[index] > 0 && bytes > 0) {
+                    threads.merge(infos[index].getThreadName(), bytes, Long::sum);
+                }
+            }
+        }
+
+        final var allocation = new LinkedHashMap<String, Object>();
+        allocation.put("bytes", threads.values().stream().mapToLong(Long::longValue).sum());
+        allocation.put("threads", threads);
+        return allocation;
+    }
+
+    /**
+     * Summarize the {@link Protocol#CACHE} lookups since the last {@link #reset()}.
+     *
+     * @implNote {@link Protocol}s are only interned once per distinct port/protocol combination while writing the
+     *           output (see {@link ProtocolKey#toProtocol(int)}), so these lookups say nothing about the hot path.
+     */
+    private static Map<String, Object> protocolCache() {
+        final var protocolCache = new LinkedHashMap<String, Object>();
+        protocolCache.put("enabled", Protocol.CACHE.capacity() > 0);
+        if (Protocol.CACHE.capacity() > 0) {
+            final var hits = Protocol.CACHE.hits() - BASELINE.cacheHits;
+            final var lookups = hits + Protocol.CACHE.misses() - BASELINE.cacheMisses;
+            protocolCache.put("scope", "output");
+            protocolCache.put("hits", hits);
+            protocolCache.put("misses", lookups - hits);
+            protocolCache.put("hitRate", lookups > 0 ? hits / (double) lookups : Double.NaN); // Written as null
+        }
+        return protocolCache;
+    }
+
+    /**
+     * Summarize the garbage collections since the last {@link #reset()} of every garbage collector.
+     */
+    private static Map<String, Object> garbageCollection() {
+        final var collectors = new LinkedHashMap<String, Object>();
+        var collections = 0L;
+        var time = 0L;
+        for (final var collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            final var baseline = BASELINE.collections.getOrDefault(collector.getName(), new long[2]);
+            final var count = Math.max(collector.getCollectionCount(), 0L) - baseline[0];
+            final var collectorTime = Math.max(collector.getCollectionTime(), 0L) - baseline[1];
+            collectors.put(collector.getName(), Map.of("collections", count, "seconds", collectorTime / 1e3));
+            collections += count;
+            time += collectorTime;
+        }
+
+        final var garbageCollection = new LinkedHashMap<String, Object>();
+        garbageCollection.put("collections", collections);
+        garbageCollection.put("seconds", time / 1e3);
+        garbageCollection.put("collectors", collectors);
+        return garbageCollection;
+    }
+
+    //==================================================================================================================
+    // Stage Support
+    //==================================================================================================================
+
+    /**
+     * The stages of counting and tagging a flow log
+     */
+    enum Stage {
+        /**
+         * Opening (or memory-mapping) a flow log file
+         */
+        OPEN("open"),
+
+        /**
+         * Reading (and decompressing) a buffer of a flow log file; only recorded by a {@link FlowLogPipeline}
+         */
+        READ("read"),
+
+        /**
+         * Splitting lines into their columns (or, in a {@link FlowLogPipeline}, a buffer into {@link ProtocolKey}s); timed
+         *   in batches
+         */
+        TOKENIZE("tokenize"),
+
+        /**
+         * Naming a protocol number using {@link Constants#IANA_PROTOCOLS}
+         */
+        IANA_LOOKUP("ianaLookup"),
+
+        /**
+         * Tagging the port/protocol combinations using the lookup table
+         */
+        TAG_LOOKUP("tagLookup"),
+
+        /**
+         * Counting the port/protocol combinations of rows; timed in batches
+         */
+        AGGREGATE("aggregate"),
+
+        /**
+         * Writing the output
+         */
+        WRITE("write");
+
+        private final String key;
+
+        Stage(String key) {
+            this.key = key;
+        }
+    }
+
+    //==================================================================================================================
+    // Batch Support
+    //==================================================================================================================
+
+    /**
+     * This class is a {@link Spliterator} that maps the elements of another {@link Spliterator} in batches, timing
+     *   every batch as a given number of operations of a {@link Stage}; see {@link #map(Stream, Stage, Function)}.
+     */
+    private static final class BatchSpliterator<T, R> implements Spliterator<R> {
+        private final Spliterator<T> source;
+        private final Stage stage;
+        private final Function<? super T, ? extends R> mapper;
+        private final Object[] batch = new Object[BATCH_SIZE];
+        private int size;
+        private int index;
+
+        //==============================================================================================================
+        // Constructors
+        //==============================================================================================================
+
+        private BatchSpliterator(Spliterator<T> source, Stage stage, Function<? super T, ? extends R> mapper) {
+            this.source = source;
+            this.stage = stage;
+            this.mapper = mapper;
+        }
+
+        //==============================================================================================================
+        // Spliterator Implementation Methods
+        //==============================================================================================================
+
+        @Override
+        @SuppressWarnings("unchecked") // Every element of the batch has been mapped into an R.
+        public boolean tryAdvance(Consumer<? super R> action) {
+            if (index == size && !fill()) {
+                return false;
+            }
+            action.accept((R) batch[index]);
+            batch[index++] = null;
+            return true;
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            final var split = index == size ? source.trySplit() : null; // Never split off a partially consumed batch.
+            return split != null ? new BatchSpliterator<>(split, stage, mapper) : null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & (Spliterator.ORDERED | Spliterator.CONCURRENT | Spliterator.IMMUTABLE);
+        }
+
+        //==============================================================================================================
+        // Private Helper Methods
+        //==============================================================================================================
+
+        /**
+         * Pull the next batch of elements from the source {@link Spliterator} and map them, timing only the mapping.
+         *
+         * @return Whether any elements were pulled
+         */
+        @SuppressWarnings("unchecked") // The batch only holds Ts until they are mapped.
+        private boolean fill() {
+            index = 0;
+            size = 0;
+            while (size < batch.length && source.tryAdvance(element -> batch[size++] = element)) {
+                // Keep pulling elements until the batch is full.
+            }
+
+            final var startTime = start();
+            for (var element = 0; element < size; element++) {
+                batch[element] = mapper.apply((T) batch[element]);
+            }
+            stop(stage, startTime, size);
+            return size > 0;
+        }
+    }
+
+    //==================================================================================================================
+    // Baseline Support
+    //==================================================================================================================
+
+    /**
+     * This class holds the cumulative values (e.g., of the garbage collectors) at the last {@link #reset()}, which are
+     *   subtracted from the values at the time of reporting.
+     */
+    private static final class Baseline {
+        private volatile long startTime = System.nanoTime();
+        private volatile long cacheHits;
+        private volatile long cacheMisses;
+        private volatile Map<Long, Long> allocations = Map.of();
+        private volatile Map<String, long[]> collections = Map.of();
+
+        private void take() {
+            final var collections = new HashMap<String, long[]>();
+            for (final GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                collections.put(collector.getName(), new long[] {
+                    Math.max(collector.getCollectionCount(), 0L),
+                    Math.max(collector.getCollectionTime(), 0L)
+                });
+            }
+            this.collections = collections;
+
+            final var allocations = new HashMap<Long, Long>();
+            if (threads() != null) {
+                final var ids = threads().getAllThreadIds();
+                final var allocated = threads().getThreadAllocatedBytes(ids);
+                for (var index = 0; index < ids.length; index++) {
+                    allocations.put(ids[index], allocated[index]);
+                }
+            }
+            this.allocations = allocations;
+
+            cacheHits = Protocol.CACHE.hits();
+            cacheMisses = Protocol.CACHE.misses();
+            startTime = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+import java.util.Map;
+import java.util.Set;
+
+class MetricsTest extends BaseUnitTest {
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void report_givenRows_willReportEveryStageAsJson() {
+        final var report = (Map<?, ?>) Json.parse(Json.write(Metrics.report(1000L)));
+
+        assert$(Long.valueOf(1000L).equals(report.get("rows")), () -> "Unexpected rows: " + report.get("rows"));
+        final var stages = (Map<?, ?>) report.get("stages");
+        assert$(
+            stages.keySet().equals(Set.of(
+                "open", "read", "tokenize", "ianaLookup", "tagLookup", "aggregate", "write"
+            )),
+            () -> "Unexpected stages: " + stages.keySet()
+        );
+        for (final var key : new String[] {"bytes", "seconds", "rowsPerSecond", "mebibytesPerSecond"}) {
+            assert$(report.get(key) instanceof Number, () -> "Expected a number: " + key);
+        }
+        for (final var key : new String[] {"allocation", "garbageCollection", "protocolCache"}) {
+            assert$(report.get(key) instanceof Map, () -> "Expected an object: " + key);
+        }
+    }
+
+    @Test
+    void report_givenDisabledProtocolCache_willReportCacheAsDisabled() {
+        final var protocolCache = (Map<?, ?>) Metrics.report(0L).get("protocolCache");
+        assert$(
+            Protocol.CACHE.capacity() > 0 || protocolCache.equals(Map.of("enabled", false)),
+            () -> "Unexpected protocol cache: " + protocolCache
+        );
+    }
+
+    @Test
+    void stop_givenDisabledMetrics_willNotRecordAnything() {
+        final var startTime = Metrics.start();
+        Metrics.stop(Metrics.Stage.TOKENIZE, startTime, 10L);
+        Metrics.read(100L);
+
+        final var stages = (Map<?, ?>) Metrics.report(0L).get("stages");
+        assert$(Metrics.ENABLED || startTime == 0L, "Expected no start time while disabled");
+        assert$(
+            Metrics.ENABLED || ((Map<?, ?>) stages.get("tokenize")).get("count").equals(0L),
+            () -> "Unexpected tokenize stage: " + stages.get("tokenize")
+        );
+        assert$(Metrics.ENABLED || Metrics.bytes() == 0L, () -> "Unexpected bytes: " + Metrics.bytes());
+    }
+}
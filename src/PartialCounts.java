@@ -0,0 +1,111 @@
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collector;
+
+/**
+ * This class is the partial result of processing a part of a flow log (e.g., the files assigned to a single worker),
+ *   which can be {@linkplain CountsFile saved}, loaded on another machine, and merged with the partial results of the
+ *   other parts.
+ * <br/><br/>
+ *
+ * A {@link PartialCounts} consists of the port/protocol combination counts of its part and any number of named
+ *   aggregates (e.g., {@value #PARTIALS}, the number of partial results merged into it). Merging sums both the counts
+ *   and the aggregates, so it is associative and commutative; partial results can be merged in any order and grouping
+ *   (e.g., in a tree) with the same result.
+ *
+ * @implNote Instances of this class are not thread-safe.
+ */
+final class PartialCounts {
+    /**
+     * The name of the aggregate that counts the partial results merged into a {@link PartialCounts}
+     */
+    static final String PARTIALS = "partials";
+
+    private final FlowCounts counts;
+    private final Map<String, Long> aggregates;
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    /**
+     * Construct an instance of {@link PartialCounts} using given counts and aggregates.
+     *
+     * @param counts The {@link FlowCounts} of the part
+     * @param aggregates The named aggregates of the part; copied
+     */
+    PartialCounts(FlowCounts counts, Map<String, Long> aggregates) {
+        this.counts = Objects.requireNonNull(counts);
+        this.aggregates = new TreeMap<>(aggregates); // Keep the aggregates in a deterministic order.
+    }
+
+    //==================================================================================================================
+    // Factory Methods
+    //==================================================================================================================
+
+    /**
+     * Create a single {@link PartialCounts} from given {@link FlowCounts}.
+     *
+     * @param counts The {@link FlowCounts} of the part
+     */
+    static PartialCounts of(FlowCounts counts) {
+        return new PartialCounts(counts, Map.of(PARTIALS, 1L));
+    }
+
+    /**
+     * Construct a {@link Collector} that merges {@link PartialCounts} into a new {@link PartialCounts}.
+     *
+     * @implNote The given {@link PartialCounts} are never modified; a parallel {@link java.util.stream.Stream} gives
+     *           every one of its tasks a new {@link PartialCounts} to merge into, and merges those as the tasks
+     *           complete.
+     */
+    static Collector<PartialCounts, PartialCounts, PartialCounts> merging() {
+        return Collector.of(
+            () -> new PartialCounts(new FlowCounts(), Map.of()),
+            PartialCounts::merge,
+            PartialCounts::merge,
+            Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Add the counts and aggregates of a given {@link PartialCounts} to this {@link PartialCounts}.
+     *
+     * @param other The {@link PartialCounts} whose counts and aggregates to add; it is not modified
+     * @return This {@link PartialCounts} for chaining
+     */
+    PartialCounts merge(PartialCounts other) {
+        counts.merge(other.counts);
+        other.aggregates.forEach((name, value) -> aggregates.merge(name, value, Long::sum));
+        return this;
+    }
+
+    /**
+     * Retrieve the port/protocol combination counts of this {@link PartialCounts}.
+     */
+    FlowCounts counts() {
+        return counts;
+    }
+
+    /**
+     * Retrieve the named aggregates of this {@link PartialCounts}, ordered by their names.
+     */
+    Map<String, Long> aggregates() {
+        return Collections.unmodifiableMap(aggregates);
+    }
+
+    //==================================================================================================================
+    // Object Implementation Methods
+    //==================================================================================================================
+
+    @Override
+    public String toString() {
+        return "%s[rows=%d, aggregates=%s]".formatted(super.toString(), counts.rows(), aggregates);
+    }
+}
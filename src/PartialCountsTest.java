@@ -0,0 +1,65 @@
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class PartialCountsTest extends BaseUnitTest {
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void merge_givenAnyGrouping_willReturnSameResult() {
+        final var a = randomPartial();
+        final var b = randomPartial();
+        final var c = randomPartial();
+
+        final var left = copy(a).merge(copy(b)).merge(copy(c));
+        final var right = copy(c).merge(copy(b).merge(copy(a)));
+        assert$(
+            left.counts().combinations().equals(right.counts().combinations()),
+            () -> "Unexpected combinations: left=%s, right=%s".formatted(
+                left.counts().combinations(),
+                right.counts().combinations()
+            )
+        );
+        assert$(
+            left.aggregates().equals(right.aggregates()),
+            () -> "Unexpected aggregates: left=%s, right=%s".formatted(left.aggregates(), right.aggregates())
+        );
+        assert$(left.aggregates().get(PartialCounts.PARTIALS) == 3L, () -> "Unexpected aggregates: " + left.aggregates());
+    }
+
+    @Test
+    void merging_shouldNotModifyMergedPartials() {
+        final var partial = randomPartial();
+        final var rows = partial.counts().rows();
+
+        final var given = Stream.of(partial, partial, partial).parallel().collect(PartialCounts.merging());
+        assert$(partial.counts().rows() == rows, () -> "Unexpected row count of merged partial: " + partial);
+        assert$(given.counts().rows() == rows * 3, () -> "Unexpected row count: " + given);
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static PartialCounts randomPartial() {
+        return PartialCounts.of(IntStream
+            .range(0, ThreadLocalRandom.current().nextInt(1, 1000))
+            .map(row -> ProtocolKey.of(ThreadLocalRandom.current().nextInt(1 << 16), 6))
+            .boxed()
+            .collect(FlowCounts.collector(Integer::intValue)));
+    }
+
+    private static PartialCounts copy(PartialCounts partial) {
+        return new PartialCounts(new FlowCounts().merge(partial.counts()), partial.aggregates());
+    }
+}
@@ -2,8 +2,6 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 /**
  * This class defines a protocol with a port number and a name.
@@ -17,7 +15,12 @@ import java.util.concurrent.ConcurrentMap;
  */
 record Protocol(String port, String name) implements Serializable {
     private static final @Serial long serialVersionUID = 1L;
-    private static final ConcurrentMap<Integer, Protocol> CACHE = new ConcurrentHashMap<>(1 << 16);
+
+    /**
+     * The bounded cache of canonical instances returned by {@link #of(String, String)}; see
+     *   {@link Settings#PROTOCOL_CACHE_SIZE}
+     */
+    static final ProtocolCache CACHE = new ProtocolCache(Settings.FAST ? 0 : Settings.PROTOCOL_CACHE_SIZE);
 
     /**
      * A sentinel value for an unknown protocol
@@ -48,13 +51,7 @@ record Protocol(String port, String name) implements Serializable {
      * @return A potentially cached instance of {@link Protocol} corresponding to the given port and name
      */
     static Protocol of(String port, String name) {
-        // Cache instances using the hash of the arguments, if allowed; see Map.Entry.hashCode() for the algorithm used.
-        return Settings.FAST
-            ? new Protocol(port, name)
-            : CACHE.computeIfAbsent(port.hashCode() ^ name.toLowerCase().hashCode(), hash -> new Protocol(port, name));
-
-        // TODO: Implement soft-reference-value-based caching or an eviction policy for the current cache instead. This
-        //   would require weighing memory constraints against processing time constraints. Currently, we prefer faster
-        //   processing times.
+        // Cache instances by their full identity, if allowed, so that distinct combinations can never collide.
+        return CACHE.intern(new Protocol(port, name));
     }
 }
@@ -0,0 +1,53 @@
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class benchmarks creating {@link Protocol}s for {@value #SIZE} random port/protocol combinations, both through
+ *   {@link Protocol#of(String, String)} (which caches only if the {@link Settings#FAST} setting is disabled) and through
+ *   a {@link ProtocolCache} directly.
+ */
+class ProtocolBenchmark extends BaseBenchmark {
+    private static final int SIZE = 1 << 10;
+    private static final String[] NAMES = {"tcp", "udp", "icmp"};
+
+    private final String[] ports = new String[SIZE];
+    private final String[] names = new String[SIZE];
+    private final ProtocolCache cache = new ProtocolCache(Settings.PROTOCOL_CACHE_SIZE);
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String... args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    ProtocolBenchmark() {
+        final var random = ThreadLocalRandom.current();
+        for (var index = 0; index < SIZE; index++) {
+            ports[index] = String.valueOf(random.nextInt(1 << 8));
+            names[index] = NAMES[random.nextInt(NAMES.length)];
+        }
+    }
+
+    //==================================================================================================================
+    // Benchmarks
+    //==================================================================================================================
+
+    @Benchmark
+    void of(Blackhole blackhole) {
+        for (var index = 0; index < SIZE; index++) {
+            blackhole.consume(Protocol.of(ports[index], names[index]));
+        }
+    }
+
+    @Benchmark
+    void intern(Blackhole blackhole) {
+        for (var index = 0; index < SIZE; index++) {
+            blackhole.consume(cache.intern(new Protocol(ports[index], names[index])));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+import java.io.Serial;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is a bounded cache of canonical {@link Protocol} instances, so that large datasets with common data points
+ *   retain a single {@link Protocol} per port/protocol combination rather than one per row.
+ * <br/><br/>
+ *
+ * {@link Protocol}s are keyed by their full identity (i.e., their port and case-insensitive name) rather than a hash of
+ *   it, so two different combinations can never be mistaken for one another. Once the cache is full, the least recently
+ *   used {@link Protocol} is evicted.
+ *
+ * @implNote The cache is split into independently locked segments, each of which evicts its own least recently used
+ *           {@link Protocol}; the eviction order is therefore only approximately least recently used across the whole
+ *           cache, in exchange for less contention between threads.
+ */
+final class ProtocolCache {
+    private static final int SEGMENTS = 1 << 4;
+
+    private final Segment[] segments;
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    /**
+     * Construct an empty {@link ProtocolCache} holding up to a given number of {@link Protocol}s.
+     *
+     * @param capacity The maximum number of {@link Protocol}s to hold; {@code 0} disables caching altogether
+     *
+     * @throws IllegalArgumentException If the given capacity is negative
+     */
+    ProtocolCache(int capacity) throws IllegalArgumentException {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative: " + capacity);
+        }
+
+        final var segments = Math.min(SEGMENTS, Integer.highestOneBit(Math.max(capacity, 1)));
+        this.segments = new Segment[segments];
+        for (var index = 0; index < segments; index++) {
+            // Spread the remainder across the first segments so that the capacities add up exactly.
+            this.segments[index] = new Segment(capacity / segments + (index < capacity % segments ? 1 : 0));
+        }
+        this.capacity = capacity;
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Retrieve the canonical instance of a given {@link Protocol}, caching it if there is none.
+     *
+     * @param protocol The {@link Protocol} to retrieve the canonical instance of
+     * @return The cached {@link Protocol} equal to the given one, or the given {@link Protocol} itself if there was
+     *         none
+     */
+    Protocol intern(Protocol protocol) {
+        if (capacity == 0) {
+            return protocol;
+        }
+
+        final var hash = protocol.hashCode(); // Implicit null check
+        final var segment = segments[(hash ^ hash >>> 16) & segments.length - 1];
+        synchronized (segment) {
+            final var cached = segment.putIfAbsent(protocol, protocol);
+            (cached != null ? hits : misses).increment();
+            return cached != null ? cached : protocol;
+        }
+    }
+
+    /**
+     * Retrieve the maximum number of {@link Protocol}s this {@link ProtocolCache} holds.
+     */
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Retrieve the number of {@link Protocol}s this {@link ProtocolCache} currently holds.
+     */
+    int size() {
+        var size = 0;
+        for (final var segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Retrieve the number of times {@link #intern(Protocol)} found a cached {@link Protocol}.
+     */
+    long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Retrieve the number of times {@link #intern(Protocol)} did not find a cached {@link Protocol}.
+     */
+    long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Retrieve the number of {@link Protocol}s evicted to keep this {@link ProtocolCache} within its capacity.
+     */
+    long evictions() {
+        return evictions.sum();
+    }
+
+    //==================================================================================================================
+    // Object Implementation Methods
+    //==================================================================================================================
+
+    @Override
+    public String toString() {
+        final var hits = hits();
+        final var lookups = hits + misses();
+        return "%s[size=%d, capacity=%d, hits=%d, misses=%d, evictions=%d, hitRate=%.2f%%]".formatted(
+            super.toString(),
+            size(),
+            capacity,
+            hits,
+            lookups - hits,
+            evictions(),
+            lookups > 0 ? hits * 100D / lookups : 0D
+        );
+    }
+
+    //==================================================================================================================
+    // Segment Support
+    //==================================================================================================================
+
+    /**
+     * This class is a single access-ordered segment of a {@link ProtocolCache}.
+     */
+    private final class Segment extends LinkedHashMap<Protocol, Protocol> {
+        private static final @Serial long serialVersionUID = 1L;
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75F, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Protocol, Protocol> eldest) {
+            final var evict = size() > capacity;
+            if (evict) {
+                evictions.increment();
+            }
+            return evict;
+        }
+    }
+}
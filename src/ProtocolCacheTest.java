@@ -0,0 +1,70 @@
+import java.util.stream.IntStream;
+
+class ProtocolCacheTest extends BaseUnitTest {
+    private static final int CAPACITY = 64;
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void intern_shouldReturnCanonicalInstance() {
+        final var target = new ProtocolCache(CAPACITY);
+        final var expected = target.intern(new Protocol("443", "tcp"));
+        final var given = target.intern(new Protocol("443", "TCP"));
+
+        assert$(expected == given, "Expected the cached instance to be returned");
+        assert$(target.hits() == 1 && target.misses() == 1, () -> "Unexpected statistics: " + target);
+    }
+
+    @Test
+    void intern_shouldNotConfuseCollidingProtocols() {
+        // These hash the same way the previous cache keyed its entries: "Aa".hashCode() == "BB".hashCode().
+        final var target = new ProtocolCache(CAPACITY);
+        final var first = target.intern(new Protocol("Aa", "tcp"));
+        final var second = target.intern(new Protocol("BB", "tcp"));
+
+        assert$(first != second, "Expected colliding protocols to be cached separately");
+        assert$("BB".equals(second.port()), () -> "Unexpected protocol: " + second);
+    }
+
+    @Test
+    void intern_shouldStayWithinCapacity() {
+        final var target = new ProtocolCache(CAPACITY);
+        final var protocols = CAPACITY * 4;
+        IntStream
+            .range(0, protocols)
+            .parallel() // Test correctness under concurrency.
+            .forEach(port -> target.intern(new Protocol(String.valueOf(port), "tcp")));
+
+        assert$(target.size() <= CAPACITY, () -> "Expected capacity to be respected: " + target);
+        assert$(target.evictions() == protocols - target.size(), () -> "Unexpected eviction count: " + target);
+    }
+
+    @Test
+    void intern_shouldEvictLeastRecentlyUsed() {
+        final var target = new ProtocolCache(1);
+        final var first = target.intern(new Protocol("1", "tcp"));
+        target.intern(new Protocol("2", "tcp"));
+
+        assert$(target.intern(new Protocol("1", "tcp")) != first, "Expected the least recently used to be evicted");
+        assert$(target.evictions() == 2, () -> "Unexpected eviction count: " + target);
+    }
+
+    @Test
+    void intern_shouldNotCacheWithoutCapacity() {
+        final var target = new ProtocolCache(0);
+        final var protocol = new Protocol("443", "tcp");
+
+        assert$(target.intern(protocol) == protocol, "Expected the given instance to be returned");
+        assert$(target.size() == 0, () -> "Expected nothing to be cached: " + target);
+    }
+}
@@ -0,0 +1,208 @@
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class packs a flow log's destination port and IANA-assigned protocol number into a single non-negative
+ *   {@code int} key, so that combinations can be counted without creating a {@link Protocol} for every row.
+ * <br/><br/>
+ *
+ * A destination port ({@code 0-65535}) and protocol number ({@code 0-255}) occupy the lower 24 bits of a key. Any other
+ *   combination (e.g., the {@code -} placeholders of {@code NODATA} rows) cannot be packed; it is assigned a key above
+ *   that range from a dictionary instead, so that every combination can be counted the same way. The dictionary is
+ *   shared by every {@link FlowCounts} of the process and never shrinks, so it holds at most
+ *   {@link Settings#PROTOCOL_KEYS} combinations; any other combination is assigned the key of {@link Protocol#UNKNOWN}.
+ *
+ * @implNote {@link Protocol}s are only ever created by {@link #toProtocol(int)}, which is meant to be invoked once per
+ *           distinct key when the counts are output.
+ */
+final class ProtocolKey {
+    private static final int PORT_LIMIT = 1 << 16;
+    private static final int NUMBER_LIMIT = 1 << 8;
+    private static final int NUMBER_BITS = Integer.numberOfTrailingZeros(NUMBER_LIMIT);
+    private static final int DICTIONARY_OFFSET = PORT_LIMIT * NUMBER_LIMIT;
+    private static final ConcurrentMap<Protocol, Integer> DICTIONARY = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Integer, Protocol> REVERSE_DICTIONARY = new ConcurrentHashMap<>();
+    private static final AtomicInteger DICTIONARY_SIZE = new AtomicInteger();
+    private static final AtomicBoolean DICTIONARY_FULL = new AtomicBoolean();
+    private static final int UNKNOWN_KEY = of(Protocol.UNKNOWN, Integer.MAX_VALUE);
+
+    /**
+     * The value returned by {@link #of(int, int)} when the given destination port and protocol number cannot be packed
+     */
+    static final int UNPACKABLE = -1;
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    private ProtocolKey() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    //==================================================================================================================
+    // Factory Methods
+    //==================================================================================================================
+
+    /**
+     * Pack a given destination port and protocol number into a key.
+     *
+     * @param port The destination port to pack
+     * @param number The IANA-assigned protocol number to pack
+     * @return The packed key, or {@link #UNPACKABLE} if either value is out of range
+     */
+    static int of(int port, int number) {
+        return port >= 0 && port < PORT_LIMIT && number >= 0 && number < NUMBER_LIMIT
+            ? port << NUMBER_BITS | number
+            : UNPACKABLE;
+    }
+
+    /**
+     * Retrieve the key of a given destination port and protocol number as they appear in a flow log.
+     *
+     * @param port The destination port column of a flow log row
+     * @param number The protocol column of a flow log row
+     * @return The packed key if both columns are canonical decimal numbers within range; otherwise, a dictionary key
+     *         of the {@link Protocol} the columns would have been resolved into
+     */
+    static int of(String port, String number) {
+        final var key = of(parse(port), parse(number));
+        if (key != UNPACKABLE) {
+            return key;
+        }
+
+        final var startTime = Metrics.start();
+        final var protocol = Constants.IANA_PROTOCOLS.get().getOrDefault(number, Protocol.UNKNOWN);
+        Metrics.stop(Metrics.Stage.IANA_LOOKUP, startTime);
+        return of(Protocol.of(port, protocol.name()));
+    }
+
+    /**
+     * Retrieve the dictionary key of a given {@link Protocol}, assigning one if it has none and the dictionary is not
+     *   full yet (see {@link Settings#PROTOCOL_KEYS}).
+     *
+     * @param protocol The {@link Protocol} to retrieve the dictionary key of
+     * @return The dictionary key of the given {@link Protocol}, or that of {@link Protocol#UNKNOWN} if the dictionary
+     *         is full
+     */
+    static int of(Protocol protocol) {
+        return of(protocol, Settings.PROTOCOL_KEYS);
+    }
+
+    /**
+     * Retrieve the dictionary key of a given {@link Protocol}, assigning one if it has none and the dictionary holds
+     *   fewer than a given number of keys.
+     *
+     * @param protocol The {@link Protocol} to retrieve the dictionary key of
+     * @param limit The maximum number of keys the dictionary may hold
+     * @return The dictionary key of the given {@link Protocol}, or that of {@link Protocol#UNKNOWN} if the dictionary
+     *         is full
+     *
+     * @implNote The limit is checked without holding a lock, so threads assigning keys concurrently may exceed it by
+     *           at most their number.
+     */
+    static int of(Protocol protocol, int limit) {
+        final var key = DICTIONARY.get(protocol);
+        if (key != null) {
+            return key;
+        } else if (DICTIONARY_SIZE.get() >= limit) {
+            if (DICTIONARY_FULL.compareAndSet(false, true)) {
+                Loggers.INFO.accept("[!] Counting unpackable combinations beyond [%d] as unknown".formatted(limit));
+            }
+            return UNKNOWN_KEY;
+        }
+
+        return DICTIONARY.computeIfAbsent(protocol, ignored -> {
+            final var assigned = DICTIONARY_OFFSET + DICTIONARY_SIZE.getAndIncrement();
+            REVERSE_DICTIONARY.put(assigned, protocol);
+            return assigned;
+        });
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Determine whether a given key was packed from a destination port and protocol number rather than assigned from
+     *   the dictionary.
+     *
+     * @param key The key to check
+     */
+    static boolean isPacked(int key) {
+        return key >= 0 && key < DICTIONARY_OFFSET;
+    }
+
+    /**
+     * Unpack the destination port from a given packed key.
+     *
+     * @param key The packed key to unpack the destination port from
+     */
+    static int port(int key) {
+        return key >>> NUMBER_BITS;
+    }
+
+    /**
+     * Unpack the protocol number from a given packed key.
+     *
+     * @param key The packed key to unpack the protocol number from
+     */
+    static int number(int key) {
+        return key & NUMBER_LIMIT - 1;
+    }
+
+    /**
+     * Resolve a given key into its {@link Protocol}, using {@link Constants#IANA_PROTOCOLS} to name packed protocol
+     *   numbers.
+     *
+     * @param key The key to resolve
+     * @return The {@link Protocol} of the given key
+     *
+     * @throws IllegalArgumentException If the given key was neither packed nor assigned from the dictionary
+     */
+    static Protocol toProtocol(int key) throws IllegalArgumentException {
+        if (isPacked(key)) {
+            final var startTime = Metrics.start();
+            final var protocol = Constants.IANA_PROTOCOLS.get().getOrDefault(number(key), Protocol.UNKNOWN);
+            Metrics.stop(Metrics.Stage.IANA_LOOKUP, startTime);
+            return Protocol.of(String.valueOf(port(key)), protocol.name());
+        }
+
+        final var protocol = REVERSE_DICTIONARY.get(key);
+        if (protocol == null) {
+            throw new IllegalArgumentException("Unknown protocol key: " + key);
+        }
+        return protocol;
+    }
+
+    //==================================================================================================================
+    // Package-private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Parse a given {@link String} as a non-negative {@code int} without throwing an exception.
+     *
+     * @return The parsed value, or {@code -1} if the given {@link String} is not written in the canonical decimal form
+     *         of a non-negative {@code int} (e.g., it has a sign or leading zeros), so that the packed key resolves
+     *         back into the exact same {@link Protocol}
+     *
+     * @see RowTokenizer#integer(int)
+     */
+    static int parse(String string) {
+        final var length = string.length(); // Implicit null check
+        if (length == 0 || length > 10 || (length > 1 && string.charAt(0) == '0')) {
+            return -1;
+        }
+
+        var value = 0L;
+        for (var index = 0; index < length; index++) {
+            final var digit = string.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10L + digit;
+        }
+        return value <= Integer.MAX_VALUE ? (int) value : -1;
+    }
+}
@@ -0,0 +1,65 @@
+class ProtocolKeyTest extends BaseUnitTest {
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void of_givenPortAndNumberInRange_willPackThem() {
+        final var key = ProtocolKey.of(65535, 255);
+        assert$(ProtocolKey.isPacked(key), "Expected the key to be packed: " + key);
+        assert$(ProtocolKey.port(key) == 65535, "Unexpected port: " + ProtocolKey.port(key));
+        assert$(ProtocolKey.number(key) == 255, "Unexpected protocol number: " + ProtocolKey.number(key));
+    }
+
+    @Test
+    void of_givenPortOrNumberOutOfRange_willReturnUnpackable() {
+        assert$(ProtocolKey.of(65536, 6) == ProtocolKey.UNPACKABLE, "Expected the port to be out of range");
+        assert$(ProtocolKey.of(443, 256) == ProtocolKey.UNPACKABLE, "Expected the protocol number to be out of range");
+        assert$(ProtocolKey.of(-1, 6) == ProtocolKey.UNPACKABLE, "Expected the port to be out of range");
+    }
+
+    @Test
+    void toProtocol_givenPackedKey_willResolveSameProtocolAsColumns() {
+        assertProtocol("443", "6", Protocol.of("443", "tcp"));
+        assertProtocol("0", "1", Protocol.of("0", "icmp"));
+    }
+
+    @Test
+    void toProtocol_givenUnpackableColumns_willResolveSameProtocolAsColumns() {
+        assertProtocol("-", "-", Protocol.of("-", Constants.UNKNOWN));
+        assertProtocol("0443", "6", Protocol.of("0443", "tcp"));
+        assertProtocol("443", "06", Protocol.of("443", Constants.UNKNOWN));
+    }
+
+    @Test
+    void of_givenFullDictionary_willReturnKeyOfUnknownProtocol() {
+        final var known = Protocol.of("-", "known");
+        final var key = ProtocolKey.of(known);
+        assert$(ProtocolKey.of(known, 0) == key, "Expected the key already assigned to be kept");
+
+        final var given = ProtocolKey.toProtocol(ProtocolKey.of(Protocol.of("-", "overflow"), 0));
+        assert$(Protocol.UNKNOWN.equals(given), () -> "Unexpected protocol: expected=%s, given=%s".formatted(
+            Protocol.UNKNOWN,
+            given
+        ));
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static void assertProtocol(String port, String number, Protocol expected) {
+        final var key = ProtocolKey.of(port, number);
+        final var given = ProtocolKey.toProtocol(key);
+        assert$(expected.equals(given), () -> "Unexpected protocol: expected=%s, given=%s".formatted(expected, given));
+        assert$(key == ProtocolKey.of(port, number), "Expected the same key for the same columns");
+    }
+}
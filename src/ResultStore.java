@@ -0,0 +1,284 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+/**
+ * This class stores the {@link FlowCounts} of individual flow log files, so that a later run over the same files only
+ *   needs to count the files that are new or have changed since and can reuse the stored counts of the others.
+ * <br/><br/>
+ *
+ * Every file's counts are stored along with the file's absolute path, size, and last modified time, and optionally a
+ *   CRC-32C checksum of its contents (see {@link Settings#INCREMENTAL_CHECKSUM}); the stored counts are only reused if
+ *   all of them still match. The store is persisted as a {@link ChecksummedFile} with the magic number {@code FLRS},
+ *   whose body consists of the following:
+ * <ul>
+ *   <li>A CRC-32C fingerprint of the IANA protocols file that the counts were resolved against</li>
+ *   <li>Every file's path, size, last modified time, checksum, and the
+ *     {@linkplain FlowCounts#toBytes() binary form} of its {@link FlowCounts}</li>
+ * </ul>
+ *
+ * The whole store is discarded if the IANA protocols file has changed since, as the protocol names of the stored
+ *   counts may have been resolved against it. Only the port/protocol combination counts are stored, however, so the
+ *   store remains valid even if the lookup table changes; the tag counts are derived from the combination counts once
+ *   all files have been counted.
+ *
+ * @implNote Instances of this class are thread-safe, so files may be counted concurrently.
+ */
+final class ResultStore {
+    private static final int MAGIC = 0x464c5253; // FLRS
+    private static final int VERSION = 1;
+    private static final long NO_CHECKSUM = -1L;
+    private static final int CHECKSUM_BUFFER_SIZE = 1 << 20;
+
+    private final Path path;
+    private final long fingerprint;
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    /**
+     * Construct an instance of {@link ResultStore} that is persisted at a given {@link Path}, loading any results
+     *   already stored there.
+     *
+     * @param path The {@link Path} of the store file; it does not need to exist yet
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while reading the
+     *                              store file or the IANA protocols file
+     */
+    ResultStore(Path path) throws UncheckedIOException {
+        this(path, Constants.IANA_PROTOCOLS_PATH);
+    }
+
+    /**
+     * Construct an instance of {@link ResultStore} that is persisted at a given {@link Path}, loading any results
+     *   already stored there unless they were stored against a different IANA protocols file.
+     *
+     * @param path The {@link Path} of the store file; it does not need to exist yet
+     * @param ianaProtocolsPath The {@link Path} of the IANA protocols file that protocol names are resolved against
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while reading the
+     *                              store file or the IANA protocols file
+     */
+    ResultStore(Path path, Path ianaProtocolsPath) throws UncheckedIOException {
+        this.path = Objects.requireNonNull(path);
+        fingerprint = checksum(ianaProtocolsPath);
+        read();
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Retrieve the stored {@link FlowCounts} of a given flow log file if the file has not changed since they were
+     *   stored, or count the file using a given function and store its counts otherwise.
+     *
+     * @param input The {@link Path} of the flow log file
+     * @param counter The function to count the flow log file with if it has no valid stored counts
+     * @return The {@link FlowCounts} of the flow log file; these are never shared with the store, so they may be
+     *         modified freely
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while reading the
+     *                              file's attributes or contents
+     *
+     * @implNote The file's attributes are read before it is counted, so that the counts of a file that changes while
+     *           it is being counted are never reused by a later run.
+     */
+    FlowCounts computeIfAbsent(Path input, Function<? super Path, FlowCounts> counter) throws UncheckedIOException {
+        final var key = input.toAbsolutePath().normalize();
+        final var state = Entry.of(input);
+        final var entry = entries.get(key);
+        if (entry != null && entry.matches(state)) {
+            hits.incrementAndGet();
+            return new FlowCounts().merge(entry.counts);
+        }
+
+        misses.incrementAndGet();
+        final var counts = counter.apply(input);
+        entries.put(key, state.withCounts(new FlowCounts().merge(counts)));
+        return counts;
+    }
+
+    /**
+     * Persist this {@link ResultStore} atomically, leaving out the results of files that no longer exist.
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while writing the
+     *                              store file
+     *
+     * @see ChecksummedFile#write(Path, int, int, ByteBuffer)
+     */
+    void write() throws UncheckedIOException {
+        Loggers.INFO.accept("[#] Reused the stored counts of [%d] file(s), counted [%d] file(s)".formatted(
+            hits.get(),
+            misses.get()
+        ));
+        entries.keySet().removeIf(input -> !Files.exists(input));
+
+        final var entries = List.copyOf(this.entries.entrySet());
+        final var paths = new ArrayList<byte[]>(entries.size());
+        final var counts = new ArrayList<ByteBuffer>(entries.size());
+        var size = Integer.BYTES + Long.BYTES;
+        for (final var entry : entries) {
+            paths.add(entry.getKey().toString().getBytes(StandardCharsets.UTF_8));
+            counts.add(entry.getValue().counts.toBytes());
+            size += Integer.BYTES + paths.getLast().length + Long.BYTES * 3 + counts.getLast().remaining();
+        }
+
+        final var bytes = ByteBuffer
+            .allocate(size)
+            .putLong(fingerprint)
+            .putInt(entries.size());
+        for (var index = 0; index < entries.size(); index++) {
+            final var entry = entries.get(index).getValue();
+            bytes
+                .putInt(paths.get(index).length)
+                .put(paths.get(index))
+                .putLong(entry.size)
+                .putLong(entry.lastModified)
+                .putLong(entry.checksum)
+                .put(counts.get(index));
+        }
+
+        try {
+            ChecksummedFile.write(path, MAGIC, VERSION, bytes.flip());
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to write result store: " + path, exception);
+        }
+    }
+
+    //==================================================================================================================
+    // Object Implementation Methods
+    //==================================================================================================================
+
+    @Override
+    public String toString() {
+        return "%s[path=%s, files=%d, hits=%d, misses=%d]".formatted(
+            super.toString(),
+            path,
+            entries.size(),
+            hits.get(),
+            misses.get()
+        );
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Load the results stored in the store file, if it exists and is valid.
+     */
+    private void read() throws UncheckedIOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        try {
+            final var contents = ChecksummedFile.read(path, MAGIC).filter(read -> read.version() == VERSION);
+            if (contents.isEmpty()) {
+                Loggers.INFO.accept("[!] Ignoring invalid result store: " + path);
+                return;
+            }
+
+            final var bytes = contents.get().body();
+            if (bytes.getLong() != fingerprint) {
+                Loggers.INFO.accept("[!] Discarding result store since the IANA protocols have changed: " + path);
+                return;
+            }
+
+            final var entries = new ConcurrentHashMap<Path, Entry>();
+            for (var count = bytes.getInt(); count > 0; count--) {
+                final var length = bytes.getInt();
+                if (length < 0 || length > bytes.remaining()) {
+                    throw new IllegalArgumentException("Invalid path length: " + length);
+                }
+                final var input = new byte[length];
+                bytes.get(input);
+                entries.put(
+                    Path.of(new String(input, StandardCharsets.UTF_8)),
+                    new Entry(bytes.getLong(), bytes.getLong(), bytes.getLong(), FlowCounts.fromBytes(bytes))
+                );
+            }
+            this.entries.putAll(entries);
+        } catch (IllegalArgumentException | BufferUnderflowException exception) {
+            Loggers.INFO.accept("[!] Ignoring invalid result store: " + path);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read result store: " + path, exception);
+        }
+    }
+
+    /**
+     * Compute the CRC-32C checksum of a given file's contents.
+     */
+    private static long checksum(Path path) throws UncheckedIOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var checksum = new CRC32C();
+            final var buffer = ByteBuffer.allocateDirect(CHECKSUM_BUFFER_SIZE);
+            while (channel.read(buffer.clear()) >= 0) {
+                checksum.update(buffer.flip());
+            }
+            return checksum.getValue();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to compute checksum: " + path, exception);
+        }
+    }
+
+    //==================================================================================================================
+    // Entry Support
+    //==================================================================================================================
+
+    /**
+     * This record is the stored state of a single flow log file.
+     *
+     * @param size The size of the file in bytes
+     * @param lastModified The last modified time of the file in milliseconds since the epoch
+     * @param checksum The CRC-32C checksum of the file's contents, or {@link #NO_CHECKSUM} if it was not computed
+     * @param counts The {@link FlowCounts} of the file, or {@code null} for the current state of a file not yet counted
+     */
+    private record Entry(long size, long lastModified, long checksum, FlowCounts counts) {
+        /**
+         * Read the current state of a given file.
+         */
+        static Entry of(Path input) throws UncheckedIOException {
+            try {
+                return new Entry(
+                    Files.size(input),
+                    Files.getLastModifiedTime(input).toMillis(),
+                    Settings.INCREMENTAL_CHECKSUM ? ResultStore.checksum(input) : NO_CHECKSUM,
+                    null
+                );
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Failed to read file attributes: " + input, exception);
+            }
+        }
+
+        Entry withCounts(FlowCounts counts) {
+            return new Entry(size, lastModified, checksum, counts);
+        }
+
+        /**
+         * Determine whether this stored state matches a given current state of the same file.
+         */
+        boolean matches(Entry state) {
+            return size == state.size && lastModified == state.lastModified && checksum == state.checksum;
+        }
+    }
+}
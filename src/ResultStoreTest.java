@@ -0,0 +1,115 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+class ResultStoreTest extends BaseUnitTest {
+    private static final Path IANA_PROTOCOLS = createTempFile(null, "Decimal,Keyword\n6,TCP\n");
+    private static final FlowCounts COUNTS = IntStream
+        .range(0, ThreadLocalRandom.current().nextInt(1, 1000))
+        .map(row -> ProtocolKey.of(ThreadLocalRandom.current().nextInt(1 << 16), 6))
+        .boxed()
+        .collect(FlowCounts.collector(Integer::intValue));
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void computeIfAbsent_givenUnchangedFile_willReuseStoredCounts() {
+        final var path = storePath();
+        final var input = createTempFile(null, "input");
+        final var store = new ResultStore(path, IANA_PROTOCOLS);
+        store.computeIfAbsent(input, file -> COUNTS);
+        store.write();
+
+        final var counter = new Counter();
+        final var given = new ResultStore(path, IANA_PROTOCOLS).computeIfAbsent(input, counter);
+        assert$(counter.calls.get() == 0, "Expected stored counts to be reused: " + input);
+        assert$(
+            given.combinations().equals(COUNTS.combinations()),
+            () -> "Unexpected combinations: expected=%s, given=%s".formatted(COUNTS.combinations(), given.combinations())
+        );
+    }
+
+    @Test
+    void computeIfAbsent_givenModifiedFile_willCountAgain() throws IOException {
+        final var path = storePath();
+        final var input = createTempFile(null, "input");
+        final var store = new ResultStore(path, IANA_PROTOCOLS);
+        store.computeIfAbsent(input, file -> COUNTS);
+        store.write();
+
+        Files.writeString(input, "modified input");
+        final var counter = new Counter();
+        new ResultStore(path, IANA_PROTOCOLS).computeIfAbsent(input, counter);
+        assert$(counter.calls.get() == 1, "Expected modified file to be counted again: " + input);
+    }
+
+    @Test
+    void computeIfAbsent_givenChangedIANAProtocols_willCountAgain() throws IOException {
+        final var path = storePath();
+        final var input = createTempFile(null, "input");
+        final var ianaProtocols = createTempFile(null, "Decimal,Keyword\n6,TCP\n");
+        final var store = new ResultStore(path, ianaProtocols);
+        store.computeIfAbsent(input, file -> COUNTS);
+        store.write();
+
+        Files.writeString(ianaProtocols, "Decimal,Keyword\n6,TCP\n17,UDP\n");
+        final var counter = new Counter();
+        new ResultStore(path, ianaProtocols).computeIfAbsent(input, counter);
+        assert$(counter.calls.get() == 1, "Expected stored counts to be discarded: " + path);
+    }
+
+    @Test
+    void computeIfAbsent_givenCorruptStore_willCountAgain() throws IOException {
+        final var path = storePath();
+        final var input = createTempFile(null, "input");
+        final var store = new ResultStore(path, IANA_PROTOCOLS);
+        store.computeIfAbsent(input, file -> COUNTS);
+        store.write();
+
+        final var bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(path, bytes);
+        final var counter = new Counter();
+        new ResultStore(path, IANA_PROTOCOLS).computeIfAbsent(input, counter);
+        assert$(counter.calls.get() == 1, "Expected corrupt store to be ignored: " + path);
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static Path storePath() {
+        final var path = createTempFile(null, "");
+        try {
+            Files.delete(path);
+            return path;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to delete temporary file for testing", exception);
+        }
+    }
+
+    private static final class Counter implements Function<Path, FlowCounts> {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public FlowCounts apply(Path path) {
+            calls.incrementAndGet();
+            return new FlowCounts();
+        }
+    }
+}
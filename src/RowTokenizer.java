@@ -0,0 +1,192 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class tokenizes the rows of a newline-delimited {@link ByteBuffer} into columns without decoding them, and only
+ *   keeps track of a given projection of columns so that unused columns are skipped over entirely.
+ * <br/><br/>
+ *
+ * Only the projected columns of the current row can be decoded, either into {@link String}s using
+ *   {@link #string(int)} or directly into {@code int}s using {@link #integer(int)}.
+ *
+ * @implNote Instances of this class are stateful and must not be shared between threads.
+ */
+final class RowTokenizer {
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte SPACE = ' ';
+
+    private final ByteBuffer bytes;
+    private final byte separator;
+    private final boolean[] projection;
+    private final int[] starts;
+    private final int[] ends;
+    private final int lastColumn;
+    private byte[] buffer = new byte[1 << 6];
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    /**
+     * Construct an instance of {@link RowTokenizer} that tokenizes a given {@link ByteBuffer}'s remaining bytes.
+     *
+     * @param bytes The {@link ByteBuffer} to tokenize; its position will be advanced as rows are tokenized
+     * @param separator The single-byte column separator
+     * @param columns The indexes of the columns to keep track of
+     */
+    RowTokenizer(ByteBuffer bytes, byte separator, int... columns) {
+        this.bytes = Objects.requireNonNull(bytes);
+        this.separator = separator;
+        lastColumn = Arrays.stream(columns).max().orElseThrow(() -> new IllegalArgumentException("No columns given"));
+        projection = new boolean[lastColumn + 1];
+        starts = new int[lastColumn + 1];
+        ends = new int[lastColumn + 1];
+
+        for (final var column : columns) {
+            projection[column] = true; // Implicit bounds check
+        }
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Advance to the next row.
+     *
+     * @return Whether there was a next row to advance to
+     *
+     * @implNote If the {@link Settings#FAST} setting is disabled, every row is stripped of leading and trailing
+     *           whitespaces, and empty rows are skipped, similar to {@link TableFileReader}.
+     */
+    boolean next() {
+        var start = bytes.position();
+        final var limit = bytes.limit();
+
+        while (start < limit) {
+            final var next = FileChunk.nextLine(bytes, start);
+            var end = next;
+            if (end > start && bytes.get(end - 1) == LINE_FEED) {
+                end--;
+            }
+            if (end > start && bytes.get(end - 1) == CARRIAGE_RETURN) {
+                end--;
+            }
+            bytes.position(next);
+
+            if (!Settings.FAST) {
+                while (start < end && bytes.get(start) <= SPACE) {
+                    start++;
+                }
+                while (end > start && bytes.get(end - 1) <= SPACE) {
+                    end--;
+                }
+                if (start == end) {
+                    start = next; // Skip the empty row.
+                    continue;
+                }
+            }
+
+            tokenize(start, end);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Determine whether a given projected column exists in the current row.
+     *
+     * @param column The index of the projected column
+     */
+    boolean has(int column) {
+        return column <= lastColumn && projection[column] && starts[column] >= 0;
+    }
+
+    /**
+     * Decode a given projected column of the current row into a {@link String}.
+     *
+     * @param column The index of the projected column to decode
+     * @return The decoded column, or {@code null} if the column does not exist in the current row
+     */
+    String string(int column) {
+        if (!has(column)) {
+            return null;
+        }
+
+        final var length = ends[column] - starts[column];
+        if (length > buffer.length) {
+            buffer = new byte[Integer.highestOneBit(length) << 1];
+        }
+        bytes.get(starts[column], buffer, 0, length);
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decode a given projected column of the current row directly into a non-negative {@code int} without creating
+     *   any intermediate {@link String}.
+     *
+     * @param column The index of the projected column to decode
+     * @return The decoded column, or {@code -1} if the column does not exist in the current row or is not written in
+     *         the canonical decimal form of a non-negative {@code int} (e.g., it has a sign or leading zeros)
+     */
+    int integer(int column) {
+        if (!has(column)) {
+            return -1;
+        }
+
+        final var start = starts[column];
+        final var end = ends[column];
+        if (start == end || end - start > 10 || (end - start > 1 && bytes.get(start) == '0')) {
+            return -1;
+        }
+
+        var value = 0L;
+        for (var index = start; index < end; index++) {
+            final var digit = bytes.get(index) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10L + digit;
+        }
+        return value <= Integer.MAX_VALUE ? (int) value : -1;
+    }
+
+    /**
+     * Determine whether a given column separator can be used for tokenizing bytes, which requires it to be a single
+     *   ASCII character.
+     *
+     * @param separator The column separator to check
+     */
+    static boolean supports(String separator) {
+        return separator.length() == 1 && separator.charAt(0) < 0x80;
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Record the positions of the projected columns of the row between two given positions, skipping over every byte
+     *   beyond the last projected column.
+     */
+    private void tokenize(int start, int end) {
+        Arrays.fill(starts, -1);
+        var column = 0;
+        var columnStart = start;
+
+        for (var index = start; index <= end && column <= lastColumn; index++) {
+            if (index == end || bytes.get(index) == separator) {
+                if (projection[column]) {
+                    starts[column] = columnStart;
+                    ends[column] = index;
+                }
+                column++;
+                columnStart = index + 1;
+            }
+        }
+    }
+}
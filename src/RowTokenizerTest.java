@@ -0,0 +1,86 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+class RowTokenizerTest extends BaseUnitTest {
+    private static final String[] ROWS =
+        {
+            "2 123456789012 eni-5f6g7h8i 10.0.2.103 52.26.198.183 56000 23 6 15 7500 1620140661 1620140721 REJECT OK",
+            "2 123456789012 eni-9k10l11m 192.168.1.5 51.15.99.115 49321 0 17 20 10000 1620140661 1620140721 ACCEPT OK",
+            "2 123456789012 eni-1a2b3c4d - - - - - - - 1620140661 1620140721 - NODATA",
+            "2 123456789012 eni-1a2b3c4d 192.168.1.6 87.250.250.242 49152 0110 +6 5 2500 1620140661 1620140721 ACCEPT OK",
+            "2 123456789012",
+        };
+    private static final int DESTINATION_PORT = 6;
+    private static final int PROTOCOL = 7;
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void string_shouldDecodeProjectedColumnsOnly() {
+        final var tokenizer = tokenize();
+        final var rows = new ArrayList<String[]>();
+        while (tokenizer.next()) {
+            rows.add(new String[] {tokenizer.string(0), tokenizer.string(DESTINATION_PORT), tokenizer.string(PROTOCOL)});
+        }
+
+        final var expected = Arrays
+            .stream(ROWS)
+            .map(row -> row.split(" "))
+            .map(columns -> new String[] {null, at(columns, DESTINATION_PORT), at(columns, PROTOCOL)})
+            .toArray(String[][]::new);
+        final var given = rows.toArray(String[][]::new);
+        assert$(
+            equals(given, expected),
+            () -> "Unexpected rows: expected=%s, given=%s".formatted(toString(expected), toString(given))
+        );
+    }
+
+    @Test
+    void integer_shouldDecodeCanonicalNonNegativeIntegersOnly() {
+        final var tokenizer = tokenize();
+        final var expected = new int[][] {{23, 6}, {0, 17}, {-1, -1}, {-1, -1}, {-1, -1}};
+
+        for (final var row : expected) {
+            assert$(tokenizer.next(), "Expected another row");
+            final var given = new int[] {tokenizer.integer(DESTINATION_PORT), tokenizer.integer(PROTOCOL)};
+            assert$(
+                Arrays.equals(given, row),
+                () -> "Unexpected integers: expected=%s, given=%s".formatted(Arrays.toString(row), Arrays.toString(given))
+            );
+        }
+        assert$(!tokenizer.next(), "Expected no more rows");
+    }
+
+    @Test
+    void supports_shouldOnlyAcceptSingleAsciiCharacters() {
+        assert$(RowTokenizer.supports(","), "Expected a comma to be supported");
+        assert$(RowTokenizer.supports("\t"), "Expected a tab to be supported");
+        assert$(!RowTokenizer.supports("::"), "Expected multiple characters not to be supported");
+        assert$(!RowTokenizer.supports("§"), "Expected non-ASCII characters not to be supported");
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static RowTokenizer tokenize() {
+        final var bytes = String.join("\r\n", ROWS).getBytes(StandardCharsets.UTF_8);
+        return new RowTokenizer(ByteBuffer.wrap(bytes), (byte) ' ', DESTINATION_PORT, PROTOCOL);
+    }
+
+    private static String at(String[] columns, int index) {
+        return index < columns.length ? columns[index] : null;
+    }
+}
@@ -28,7 +28,7 @@ interface Settings {
      * Minimize processing times by skipping certain optional processing steps, such as:
      * <ul>
      *   <li>Enable more lenient input data parsing in {@link TableFileReader}.</li>
-     *   <li>Disable {@link Protocol} caching to minimize bookkeeping overhead.</li>
+     *   <li>Disable {@link Protocol} caching to minimize bookkeeping overhead; see {@link #PROTOCOL_CACHE_SIZE}.</li>
      * </ul>
      * <br/>
      *
@@ -48,14 +48,274 @@ interface Settings {
     boolean PARALLEL = FAST || getProperty("parallel", true);
 
     /**
-     * Warm up the Java virtual runtime for {@link FlowLogGenerator} by repeatedly running through "hot spots" to hint
-     *   to the just-in-time compiler to inline certain methods.
+     * Plan how to count every input of {@link FlowLogProcessor} based on its size, number of files, and compression
+     *   (see {@link ExecutionPlanner}), choosing whether to count it in parallel, how to read it, and in chunks of what
+     *   size, instead of using the same strategy for every input. The {@link #PIPELINE} setting is then ignored, and
+     *   the {@link #PARALLEL} setting only determines whether parallel computation is allowed; the
+     *   {@link #INCREMENTAL} and {@link #CHECKPOINT} settings take precedence.
+     * <br/><br/>
+     *
+     * The default value is {@code false}.
+     */
+    boolean ADAPTIVE = getProperty("adaptive", false);
+
+    /**
+     * The number of worker threads of a dedicated {@link java.util.concurrent.ForkJoinPool} to run all parallel
+     *   processing in (see {@link Constants#POOL}), or {@code 0} to use the
+     *   {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool} instead. A dedicated pool caps the
+     *   processors used by the program without competing with any other use of the common pool within the JVM.
+     * <br/><br/>
+     *
+     * The default value is {@code 0}.
+     */
+    int PARALLELISM = getProperty("parallelism", 0);
+
+    /**
+     * The prefix of the names of the threads started by the program (i.e., the workers of a dedicated
+     *   {@link java.util.concurrent.ForkJoinPool} and the threads of {@link FlowLogPipeline}s), which helps identify
+     *   them in thread dumps and profilers; see {@link #PARALLELISM}.
+     * <br/><br/>
+     *
+     * The default value is {@code "flow-log-tagger"}.
+     */
+    String THREAD_PREFIX = getProperty("threadprefix", "flow-log-tagger");
+
+    /**
+     * The maximum number of {@link Protocol}s held by {@link Protocol#CACHE} before the least recently used ones are
+     *   evicted, bounding its memory usage in long-running processes; {@code 0} disables caching altogether. Caching is
+     *   always disabled by the {@link #FAST} setting.
+     * <br/><br/>
+     *
+     * The default value is {@code 65536}.
+     */
+    int PROTOCOL_CACHE_SIZE = getProperty("cachesize", 1 << 16);
+
+    /**
+     * The maximum number of distinct unpackable port/protocol combinations (e.g., the {@code -} placeholders of
+     *   {@code NODATA} rows) assigned keys by {@link ProtocolKey}, bounding its memory usage in long-running processes;
+     *   every combination beyond that is counted as {@link Protocol#UNKNOWN} instead.
+     * <br/><br/>
+     *
+     * The default value is {@code 65536}.
+     */
+    int PROTOCOL_KEYS = getProperty("protocolkeys", 1 << 16);
+
+    /**
+     * Read files in {@link TableFileReader} by memory-mapping them and cutting them into newline-aligned
+     *   {@link FileChunk}s rather than reading them line by line, allowing a single large file to be read concurrently.
+     * <br/><br/>
+     *
+     * The default value is {@code false}.
+     */
+    boolean MAPPED = getProperty("mapped", false);
+
+    /**
+     * Decompress multi-member gzip files in {@link TableFileReader} one member per thread (see {@link GzipFile}) rather
+     *   than streaming them; this costs a scan of every gzip file for member headers, plus an additional pass over the
+     *   first member of files that have several, so it only pays off for files that actually consist of many members.
+     * <br/><br/>
+     *
+     * The default value is {@code false}.
+     */
+    boolean GZIP_MEMBERS = getProperty("gzipmembers", false);
+
+    /**
+     * Periodically checkpoint the progress of {@link FlowLogProcessor} on a single uncompressed flow log file to
+     *   {@link Constants#CHECKPOINT_PATH}, and resume from the last {@link Checkpoint} of the same file if the program
+     *   was interrupted; see {@link #CHECKPOINT_INTERVAL}.
+     * <br/><br/>
+     *
+     * The default value is {@code false}.
+     */
+    boolean CHECKPOINT = getProperty("checkpoint", false);
+
+    /**
+     * The number of mebibytes of a flow log file to process between {@link Checkpoint}s; see {@link #CHECKPOINT}.
+     * <br/><br/>
+     *
+     * The default value is {@code 1024}.
+     */
+    int CHECKPOINT_INTERVAL = getProperty("checkpointinterval", 1 << 10);
+
+    /**
+     * Save the port/protocol combination counts of every flow log processed by {@link FlowLogProcessor} to
+     *   {@link Constants#COUNTS_PATH}, from which the flow log can be tagged again using a different lookup table
+     *   without counting it again (see {@link Main}'s {@code retag} mode).
+     * <br/><br/>
+     *
+     * The default value is {@code false}.
+     */
+    boolean SAVE_COUNTS = getProperty("savecounts", false);
+
+    /**
+     * The maximum number of shards (i.e., child JVMs) to split the input into in {@link Main}'s {@code shard} mode; see
+     *   {@link ShardCoordinator}.
+     * <br/><br/>
+     *
+     * The default value is {@code 4}.
+     */
+    int SHARDS = getProperty("shards", 4);
+
+    /**
+     * The number of times to retry a shard whose child JVM fails; see {@link ShardCoordinator}.
+     * <br/><br/>
+     *
+     * The default value is {@code 2}.
+     */
+    int SHARD_RETRIES = getProperty("shardretries", 2);
+
+    /**
+     * The maximum heap size in mebibytes of every child JVM started by {@link ShardCoordinator}, or {@code 0} to use
+     *   the same maximum heap size as the current JVM.
+     * <br/><br/>
+     *
+     * The default value is {@code 0}.
+     */
+    int SHARD_HEAP = getProperty("shardheap", 0);
+
+    /**
+     * Store the {@link FlowCounts} of every flow log file processed by {@link FlowLogProcessor} in a
+     *   {@link ResultStore} at {@link Constants#RESULT_STORE_PATH}, and reuse the stored counts of files that have not
+     *   changed since instead of counting them again; see {@link #INCREMENTAL_CHECKSUM}.
+     * <br/><br/>
+     *
+     * The default value is {@code false}.
+     */
+    boolean INCREMENTAL = getProperty("incremental", false);
+
+    /**
+     * Also compare the CRC-32C checksums of flow log files' contents, rather than only their sizes and last modified
+     *   times, to determine whether their stored counts can be reused; see {@link #INCREMENTAL}. This detects changes
+     *   that preserve a file's size and last modified time at the cost of reading every file in full.
+     * <br/><br/>
+     *
+     * The default value is {@code false}.
+     */
+    boolean INCREMENTAL_CHECKSUM = getProperty("incrementalchecksum", false);
+
+    /**
+     * Read every flow log file counted by a {@link FlowLogPipeline} on its own virtual thread instead of
+     *   {@link #PIPELINE_READERS} platform threads, so that many files on storage where reading mostly blocks (e.g.,
+     *   small files on network mounts) can be read concurrently. The number of files read at once is still bounded by
+     *   {@link #PIPELINE_BUFFERS}, and parsing still only uses {@link #PIPELINE_PARSERS} threads.
+     * <br/><br/>
+     *
+     * This setting implies the {@link #PIPELINE} setting.
+     * <br/><br/>
+     *
+     * The default value is {@code false}.
+     */
+    boolean VIRTUAL_READERS = getProperty("virtualreaders", false);
+
+    /**
+     * Count flow log files using a {@link FlowLogPipeline} of dedicated reader, parser, and aggregator threads instead
+     *   of the {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool}; see {@link #PIPELINE_READERS},
+     *   {@link #PIPELINE_PARSERS}, {@link #PIPELINE_AGGREGATORS}, {@link #PIPELINE_BUFFERS},
+     *   {@link #PIPELINE_BUFFER_SIZE}, and {@link #PIPELINE_BATCHES}.
+     * <br/><br/>
+     *
+     * The default value is {@code false}; the {@link #VIRTUAL_READERS} setting implies this setting.
+     */
+    boolean PIPELINE = VIRTUAL_READERS || getProperty("pipeline", false);
+
+    /**
+     * The number of reader threads of a {@link FlowLogPipeline}, unless the {@link #VIRTUAL_READERS} setting is
+     *   enabled; every reader reads one file at a time.
+     * <br/><br/>
+     *
+     * The default value is {@code 1}.
+     */
+    int PIPELINE_READERS = getProperty("pipelinereaders", 1);
+
+    /**
+     * The number of parser threads of a {@link FlowLogPipeline}.
+     * <br/><br/>
+     *
+     * The default value is the number of available processors.
+     */
+    int PIPELINE_PARSERS = getProperty("pipelineparsers", Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The number of aggregator threads of a {@link FlowLogPipeline}, every one of which owns a partition of the
+     *   port/protocol combinations.
+     * <br/><br/>
+     *
+     * The default value is {@code 2}.
+     */
+    int PIPELINE_AGGREGATORS = getProperty("pipelineaggregators", 2);
+
+    /**
+     * The number of preallocated read buffers of a {@link FlowLogPipeline}, which bounds the amount of read data
+     *   waiting to be parsed.
+     * <br/><br/>
+     *
+     * The default value is twice the number of available processors.
+     */
+    int PIPELINE_BUFFERS = getProperty("pipelinebuffers", Runtime.getRuntime().availableProcessors() * 2);
+
+    /**
+     * The size in kibibytes of every read buffer of a {@link FlowLogPipeline}; no line may be longer than this.
+     * <br/><br/>
+     *
+     * The default value is {@code 1024}.
+     */
+    int PIPELINE_BUFFER_SIZE = getProperty("pipelinebuffersize", 1024);
+
+    /**
+     * The maximum number of batches of port/protocol combinations queued for every aggregator of a
+     *   {@link FlowLogPipeline}.
+     * <br/><br/>
+     *
+     * The default value is {@code 64}.
+     */
+    int PIPELINE_BATCHES = getProperty("pipelinebatches", 64);
+
+    /**
+     * The minimum interval in milliseconds between {@link FlowLogFollower}'s publications of its updated counts; new
+     *   lines appended to the followed file are still read as soon as they are detected.
+     * <br/><br/>
+     *
+     * The default value is {@code 10000}.
+     */
+    int FOLLOW_INTERVAL = getProperty("interval", 10_000);
+
+    /**
+     * Warm up the Java virtual machine for {@link FlowLogProcessor} by repeatedly counting a small sample flow log the
+     *   same way as the actual input, until the just-in-time compiler has settled or {@link #WARM_UP_BUDGET} runs out;
+     *   see {@link WarmUp}.
      * <br/><br/>
      *
      * The default value is {@code false}.
      */
     boolean WARM_UP = getProperty("warmup", false);
 
+    /**
+     * The maximum duration in milliseconds of warming up the Java virtual machine; see {@link #WARM_UP}.
+     * <br/><br/>
+     *
+     * The default value is {@code 5000}.
+     */
+    int WARM_UP_BUDGET = getProperty("warmupbudget", 5_000);
+
+    /**
+     * Load the default lookup table and IANA protocols file from binary snapshots in the output directory, which are
+     *   taken again whenever the source file has changed; see {@link TableSnapshot}.
+     * <br/><br/>
+     *
+     * The default value is {@code false}.
+     */
+    boolean SNAPSHOT = getProperty("snapshot", false);
+
+    /**
+     * Record the time spent in every stage of counting and tagging a flow log, the bytes read, the memory allocated by
+     *   every thread, the garbage collections, and the protocol cache lookups, and write them as a JSON summary next to
+     *   the output file; see {@link Metrics}.
+     * <br/><br/>
+     *
+     * The default value is {@code false}.
+     */
+    boolean METRICS = getProperty("metrics", false);
+
     //==================================================================================================================
     // Private Helper Methods
     //==================================================================================================================
@@ -63,4 +323,12 @@ interface Settings {
     private static boolean getProperty(String propertyName, boolean defaultValue) {
         return Boolean.parseBoolean(System.getProperty(propertyName, Boolean.toString(defaultValue)));
     }
+
+    private static int getProperty(String propertyName, int defaultValue) {
+        return Integer.parseInt(System.getProperty(propertyName, Integer.toString(defaultValue)));
+    }
+
+    private static String getProperty(String propertyName, String defaultValue) {
+        return System.getProperty(propertyName, defaultValue);
+    }
 }
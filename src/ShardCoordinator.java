@@ -0,0 +1,381 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class processes a set of flow log files by splitting it into shards, counting every shard in its own child JVM,
+ *   and merging the {@link PartialCounts} of the shards into a single output.
+ * <br/><br/>
+ *
+ * Every shard is a list of {@link Segment}s of roughly equal total size: whole files, or newline-aligned byte ranges of
+ *   files larger than a single shard's share (which allows even a single large file to be split). Every child JVM only
+ *   holds the counts of its own shard, so it can run with a smaller heap and no child's garbage collection affects the
+ *   others. A shard whose child JVM crashes (e.g., runs out of memory or is killed) is retried in a new child JVM up to
+ *   {@link Settings#SHARD_RETRIES} times.
+ * <br/><br/>
+ *
+ * Every child JVM is started using the same JVM arguments as the current JVM, except that:
+ * <ul>
+ *   <li>It does not load the current JVM's agents (e.g., a debugger listening on a fixed port, which every child JVM
+ *     would fail to bind)</li>
+ *   <li>Its maximum heap size is {@link Settings#SHARD_HEAP} mebibytes, if set</li>
+ *   <li>Its {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool} (and dedicated pool, if
+ *     {@link Settings#PARALLELISM} is set) is limited to its share of the available processors (or of
+ *     {@link Settings#PARALLELISM}), so that the child JVMs do not oversubscribe the processors together</li>
+ *   <li>It does not write debug output, which the child JVMs would otherwise overwrite concurrently</li>
+ * </ul>
+ */
+final class ShardCoordinator implements Runnable {
+    private static final int ALIGNMENT_BUFFER_SIZE = 1 << 12;
+
+    private final TableFileSet input;
+    private final Tags tags;
+    private final TableConsumer output;
+    private final Set<Process> processes = ConcurrentHashMap.newKeySet();
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    /**
+     * Construct an instance of {@link ShardCoordinator} that processes a given {@link TableFileSet}.
+     *
+     * @param input The {@link TableFileSet} to process
+     * @param tags The {@link Tags} to use for tagging the merged counts; may be {@code null} to use
+     *             {@link Constants#TAGS}
+     * @param output The {@link TableConsumer} to write the tagged counts to
+     *
+     * @throws IllegalArgumentException If {@link Settings#SHARDS} is not positive or {@link Settings#SHARD_RETRIES} is
+     *                                  negative
+     */
+    ShardCoordinator(TableFileSet input, Tags tags, TableConsumer output) throws IllegalArgumentException {
+        if (Settings.SHARDS < 1) {
+            throw new IllegalArgumentException("The number of shards (-Dshards) must be positive: " + Settings.SHARDS);
+        } else if (Settings.SHARD_RETRIES < 0) {
+            throw new IllegalArgumentException(
+                "The number of shard retries (-Dshardretries) must be non-negative: " + Settings.SHARD_RETRIES
+            );
+        }
+
+        this.input = Objects.requireNonNull(input);
+        this.tags = tags;
+        this.output = Objects.requireNonNull(output);
+    }
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    /**
+     * Count a single shard within the current (child) JVM.
+     *
+     * @param args The {@link Path} of the counts file to save the shard's {@link PartialCounts} to, followed by the
+     *             path, start position, and end position of every {@link Segment} of the shard
+     */
+    public static void main(String... args) {
+        final var processor = new FlowLogProcessor(TableSupplier.NOOP, TableConsumer.NOOP);
+        final var counts = new FlowCounts();
+        for (var index = 1; index + 2 < args.length; index += 3) {
+            final var segment = new Segment(
+                Path.of(args[index]),
+                Long.parseLong(args[index + 1]),
+                Long.parseLong(args[index + 2])
+            );
+            counts.merge(segment.count(processor));
+        }
+        CountsFile.write(Path.of(args[0]), PartialCounts.of(counts));
+        Loggers.INFO.accept("[<] Saved partial counts of shard: " + args[0]);
+    }
+
+    //==================================================================================================================
+    // Runnable Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * @throws IllegalStateException If a shard still fails after {@link Settings#SHARD_RETRIES} retries
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while planning the
+     *                              shards or starting a child JVM
+     */
+    @Override
+    public void run() throws IllegalStateException, UncheckedIOException {
+        final var shards = plan(input.paths(), Settings.SHARDS);
+        Loggers.INFO.accept("[%%] Processing %s in [%d] shard(s)...".formatted(input, shards.size()));
+
+        Path directory = null;
+        final FlowCounts counts;
+        try {
+            directory = Files.createTempDirectory(ShardCoordinator.class.getSimpleName());
+            final var futures = new ArrayList<CompletableFuture<Path>>();
+            for (var index = 0; index < shards.size(); index++) {
+                final var path = directory.resolve("shard-%d.bin".formatted(index));
+                futures.add(run(shards.get(index), path, 0, shards.size()));
+            }
+
+            final var paths = futures.stream().map(CompletableFuture::join).toList();
+            Loggers.INFO.accept("[#] Merging the partial counts of [%d] shard(s)...".formatted(paths.size()));
+            counts = CountsFile.merge(paths).counts();
+        } catch (IOException exception) {
+            Utils.releaseResources(output);
+            throw new UncheckedIOException("Failed to create temporary directory for shards", exception);
+        } catch (RuntimeException exception) {
+            processes.forEach(Process::destroyForcibly); // Do not bother processing the remaining shards.
+            Utils.releaseResources(output);
+            throw exception instanceof CompletionException && exception.getCause() instanceof RuntimeException cause
+                ? cause
+                : exception;
+        } finally {
+            delete(directory);
+        }
+
+        // Retagging releases the output once written, so it is only released above if retagging is never reached.
+        new FlowLogProcessor(TableSupplier.NOOP, tags, output).retag(counts);
+    }
+
+    //==================================================================================================================
+    // Package-private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Split given files into at most a given number of shards of roughly equal total size.
+     *
+     * @param paths The {@link Path}s of the files to split
+     * @param shards The maximum number of shards
+     * @return The {@link Segment}s of every non-empty shard
+     *
+     * @throws IllegalArgumentException If the given number of shards is not positive
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while reading the
+     *                              files
+     *
+     * @implNote Files larger than a shard's share are split into newline-aligned byte ranges, except for
+     *           gzip-compressed files, which can only be decompressed from their start. The {@link Segment}s are then
+     *           assigned to the shards largest first, every one to the shard with the smallest total size so far.
+     */
+    static List<List<Segment>> plan(List<Path> paths, int shards) throws UncheckedIOException {
+        if (shards < 1) {
+            throw new IllegalArgumentException("The number of shards must be positive: " + shards);
+        }
+
+        final var segments = new ArrayList<Segment>();
+        try {
+            var total = 0L;
+            for (final var path : paths) {
+                total += Files.size(path);
+            }
+
+            final var share = Math.max(1L, Math.ceilDiv(total, shards));
+            for (final var path : paths) {
+                try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    final var size = channel.size();
+                    final var parts = GzipFile.isGzip(path) ? 1L : Math.clamp(Math.ceilDiv(size, share), 1L, shards);
+                    var start = 0L;
+                    for (var part = 1L; part <= parts; part++) {
+                        final var end = part == parts ? size : align(channel, size / parts * part);
+                        if (end > start || size == 0L) {
+                            segments.add(new Segment(path, start, end));
+                        }
+                        start = Math.max(start, end);
+                    }
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to plan shards: " + paths, exception);
+        }
+
+        segments.sort(Comparator.comparingLong(Segment::length).reversed());
+        final var loads = new PriorityQueue<Shard>(Comparator.comparingLong(Shard::length));
+        for (var index = 0; index < Math.min(shards, segments.size()); index++) {
+            loads.add(new Shard());
+        }
+        for (final var segment : segments) {
+            final var shard = loads.poll();
+            shard.segments.add(segment);
+            shard.length += segment.length();
+            loads.add(shard);
+        }
+        return loads.stream().map(shard -> List.copyOf(shard.segments)).toList();
+    }
+
+    /**
+     * Filter given JVM arguments of the current JVM down to those that can be passed on to a child JVM as they are,
+     *   leaving out the ones that load agents (e.g., {@code -agentlib:jdwp}, {@code -javaagent:...}).
+     *
+     * @param arguments The JVM arguments of the current JVM
+     */
+    static List<String> jvmArguments(List<String> arguments) {
+        return arguments.stream().filter(argument -> !isAgentArgument(argument)).toList();
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    private static boolean isAgentArgument(String argument) {
+        return argument.startsWith("-agentlib:")
+            || argument.startsWith("-agentpath:")
+            || argument.startsWith("-javaagent:")
+            || argument.startsWith("-Xrun"); // The legacy form of -agentlib (e.g., -Xrunjdwp:...).
+    }
+
+    /**
+     * Count a shard in a new child JVM, retrying in another child JVM if it fails.
+     *
+     * @param shards The number of shards counted concurrently, between which the available processors are split
+     * @return A {@link CompletableFuture} of the {@link Path} of the counts file of the shard
+     */
+    private CompletableFuture<Path> run(List<Segment> segments, Path path, int attempt, int shards) {
+        final var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArguments(ManagementFactory.getRuntimeMXBean().getInputArguments()));
+        if (Settings.SHARD_HEAP > 0) {
+            command.add("-Xmx%dm".formatted(Settings.SHARD_HEAP));
+        }
+        final var parallelism = Math.max(
+            1,
+            (Settings.PARALLELISM > 0 ? Settings.PARALLELISM : Runtime.getRuntime().availableProcessors())
+                / shards
+        );
+        command.add("-Djava.util.concurrent.ForkJoinPool.common.parallelism=" + parallelism);
+        if (Settings.PARALLELISM > 0) {
+            command.add("-Dparallelism=" + parallelism); // Split the dedicated pool's budget between the shards too.
+        }
+        command.add("-Ddebug=false");
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), ShardCoordinator.class.getName()));
+        command.add(path.toString());
+        segments.forEach(segment -> command.addAll(List.of(
+            segment.path.toString(),
+            String.valueOf(segment.start),
+            String.valueOf(segment.end)
+        )));
+
+        final Process process;
+        try {
+            process = new ProcessBuilder(command).inheritIO().start();
+        } catch (IOException exception) {
+            final var cause = new UncheckedIOException("Failed to start shard: " + path, exception);
+            return CompletableFuture.failedFuture(cause);
+        }
+
+        processes.add(process);
+        return process.onExit().thenCompose(exited -> {
+            processes.remove(exited);
+            if (exited.exitValue() == 0 && Files.exists(path)) {
+                return CompletableFuture.completedFuture(path);
+            } else if (attempt < Settings.SHARD_RETRIES) {
+                Loggers.INFO.accept("[!] Shard exited with code %d; retrying (%d/%d): %s".formatted(
+                    exited.exitValue(),
+                    attempt + 1,
+                    Settings.SHARD_RETRIES,
+                    segments
+                ));
+                return run(segments, path, attempt + 1, shards);
+            }
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                "Shard exited with code %d after %d attempt(s): %s".formatted(exited.exitValue(), attempt + 1, segments)
+            ));
+        });
+    }
+
+    /**
+     * Determine the start of the first line at or after a given position within a given {@link FileChannel}'s file.
+     */
+    private static long align(FileChannel channel, long position) throws IOException {
+        if (position == 0L) {
+            return 0L;
+        }
+
+        final var buffer = ByteBuffer.allocate(ALIGNMENT_BUFFER_SIZE);
+        for (var offset = position - 1L; channel.read(buffer.clear(), offset) > 0; offset += buffer.position()) {
+            for (var index = 0; index < buffer.position(); index++) {
+                if (buffer.get(index) == '\n') {
+                    return offset + index + 1L;
+                }
+            }
+        }
+        return channel.size();
+    }
+
+    /**
+     * Delete a given directory and the files within it, if it exists.
+     */
+    private static void delete(Path directory) {
+        if (directory == null) {
+            return;
+        }
+
+        try (var paths = Files.list(directory)) {
+            for (final var path : (Iterable<Path>) paths::iterator) {
+                Files.deleteIfExists(path);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException exception) {
+            Loggers.INFO.accept("[!] Failed to delete temporary directory for shards: " + directory);
+        }
+    }
+
+    //==================================================================================================================
+    // Segment Support
+    //==================================================================================================================
+
+    /**
+     * This record is a newline-aligned byte range of a flow log file.
+     *
+     * @param path The {@link Path} of the flow log file
+     * @param start The position of the first line of the range
+     * @param end The position immediately following the last line of the range
+     */
+    record Segment(Path path, long start, long end) {
+        long length() {
+            return end - start;
+        }
+
+        /**
+         * Count the port/protocol combinations of this {@link Segment} using a given {@link FlowLogProcessor}.
+         */
+        FlowCounts count(FlowLogProcessor processor) throws UncheckedIOException {
+            final var reader = new TableFileReader(path);
+            try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                if (start == 0L && end == channel.size()) {
+                    return processor.toCounts(reader); // Read whole files as usual (e.g., gzip-compressed files).
+                }
+
+                final var chunks = new ArrayList<FileChunk>();
+                FileChunk.map(
+                    channel,
+                    start,
+                    end,
+                    start == 0L && reader.hasHeaderRow,
+                    true,
+                    FileChunk.REGION_SIZE,
+                    FileChunk.CHUNK_SIZE,
+                    chunks
+                );
+                return processor.toCounts(reader.read(chunks));
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Failed to map file for reading: " + path, exception);
+            }
+        }
+    }
+
+    private static final class Shard {
+        private final List<Segment> segments = new ArrayList<>();
+        private long length;
+
+        long length() {
+            return length;
+        }
+    }
+}
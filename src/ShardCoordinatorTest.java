@@ -0,0 +1,103 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class ShardCoordinatorTest extends BaseUnitTest {
+    private static final String HEADER = "version account-id interface-id srcaddr dstaddr srcport dstport protocol\n";
+    private static final String BODY = IntStream
+        .range(0, 1000)
+        .mapToObj(row -> "2 123456789012 eni-0a1b2c3d 10.0.1.201 198.51.100.2 443 %d 6\n".formatted(row % 50))
+        .collect(Collectors.joining());
+    private static final Tags TAGS = new Tags(() -> Stream.<String[]>of(new String[] {"1", "tcp", "sv_P1"}));
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void plan_givenSingleFile_willSplitFileIntoNewlineAlignedSegments() throws IOException {
+        final var path = createTempFile(".log", HEADER + BODY);
+        final var content = Files.readString(path);
+        final var shards = ShardCoordinator.plan(List.of(path), 4);
+        assert$(shards.size() == 4, () -> "Unexpected shard count: " + shards.size());
+
+        final var segments = shards
+            .stream()
+            .flatMap(List::stream)
+            .sorted((first, second) -> Long.compare(first.start(), second.start()))
+            .toList();
+        for (var index = 0; index < segments.size(); index++) {
+            final var segment = segments.get(index);
+            final var expected = index == 0 ? 0L : segments.get(index - 1).end();
+            assert$(segment.start() == expected, () -> "Unexpected segment start: expected=%d, given=%s".formatted(
+                expected,
+                segment
+            ));
+            assert$(
+                segment.start() == 0L || content.charAt((int) segment.start() - 1) == '\n',
+                () -> "Unaligned segment: " + segment
+            );
+        }
+        final var end = segments.getLast().end();
+        assert$(end == content.length(), () -> "Unexpected end of segments: " + end);
+    }
+
+    @Test
+    void plan_givenManyFiles_willAssignEveryFileOnce() {
+        final var paths = IntStream.range(0, 10).mapToObj(file -> createTempFile(".log", HEADER)).toList();
+        final var shards = ShardCoordinator.plan(paths, 3);
+        assert$(shards.size() == 3, () -> "Unexpected shard count: " + shards.size());
+
+        final var given = shards.stream().flatMap(List::stream).map(ShardCoordinator.Segment::path).sorted().toList();
+        assert$(given.equals(paths.stream().sorted().toList()), () -> "Unexpected segments: " + shards);
+    }
+
+    @Test
+    void plan_givenNonPositiveShardCount_willThrowException() {
+        try {
+            ShardCoordinator.plan(List.of(createTempFile(".log", HEADER)), 0);
+            assert$(false, "Expected an exception to be thrown");
+        } catch (IllegalArgumentException exception) {
+            // This is expected.
+        }
+    }
+
+    @Test
+    void jvmArguments_givenAgentArguments_willLeaveThemOut() {
+        final var given = ShardCoordinator.jvmArguments(List.of(
+            "-Xmx1g",
+            "-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=5005",
+            "-Xrunjdwp:transport=dt_socket",
+            "-javaagent:agent.jar",
+            "-agentpath:/opt/agent.so",
+            "-Dfast=false"
+        ));
+        assert$(given.equals(List.of("-Xmx1g", "-Dfast=false")), () -> "Unexpected JVM arguments: " + given);
+    }
+
+    @Test
+    void run_shouldCountEveryRowOnce() {
+        final var path = createTempFile(".log", HEADER + BODY);
+        final var output = new ArrayList<String[]>();
+        new ShardCoordinator(new TableFileSet(path.toString()), TAGS, rows -> rows.forEach(output::add)).run();
+
+        final var given = output
+            .stream()
+            .filter(row -> row.length == 3 && row[1].equals("tcp"))
+            .mapToLong(row -> Long.parseLong(row[2]))
+            .sum();
+        assert$(given == 1000L, () -> "Unexpected row count: expected=%d, given=%d".formatted(1000L, given));
+    }
+}
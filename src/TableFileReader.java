@@ -2,7 +2,10 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -16,7 +19,7 @@ import java.util.stream.Stream;
  *          statement</a> to ensure any underlying resources are properly closed.
  */
 non-sealed class TableFileReader extends AbstractTableFileProcessor implements TableSupplier {
-    private final boolean hasHeaderRow;
+    final boolean hasHeaderRow;
 
     //==================================================================================================================
     // Constructors
@@ -52,15 +55,56 @@ non-sealed class TableFileReader extends AbstractTableFileProcessor implements T
     //==================================================================================================================
 
     /**
-     * @implNote This method returns a lazy {@link Stream}.
+     * @implNote This method returns a lazy {@link Stream}. If the {@link Settings#MAPPED} setting is enabled, the
+     *           {@link Stream} is backed by the file's memory-mapped {@link FileChunk}s and splits evenly when used in
+     *           parallel. Gzip-compressed files are decompressed on the fly; see {@link GzipFile}.
      */
     @Override
     public Stream<String[]> get() {
         Loggers.INFO.accept("[>] Reading file: " + path);
 
-        return lines(path)
-            .skip(hasHeaderRow ? 1L : 0L) // Skip the first header row if explicitly specified.
-            .map(Settings.FAST ? line -> line.split(separator) : line -> line.strip().split(separator));
+        final var startTime = Metrics.start();
+        final var lines = chunks()
+            .map(TableFileReader::lines)
+            .orElseGet(() -> lines(path, isGzip()).skip(hasHeaderRow ? 1L : 0L)); // Skip the header row if specified.
+        Metrics.open(path, startTime);
+        return Metrics.map(lines, Metrics.Stage.TOKENIZE, this::split);
+    }
+
+    /**
+     * @implNote This method returns a lazy {@link Stream}. If this {@link TableFileReader}'s column separator is a
+     *           single character, only the projected columns are extracted from every line; if the file is read in
+     *           {@link FileChunk}s, they are decoded directly from the file's (decompressed) bytes.
+     *
+     * @see RowTokenizer
+     */
+    @Override
+    public Stream<String[]> get(int... columns) {
+        if (!RowTokenizer.supports(separator)) {
+            return get(); // Fall back to splitting every line in full for regular-expression-based separators.
+        }
+
+        Loggers.INFO.accept("[>] Reading file: " + path);
+        final var separator = this.separator.charAt(0);
+
+        final var startTime = Metrics.start();
+        final var chunks = chunks();
+        if (chunks.isPresent()) {
+            Metrics.open(path, startTime);
+            return chunks.get().flatMap(chunk -> chunk.rows(separator, columns));
+        }
+
+        final var projection = new boolean[Arrays.stream(columns).max().orElse(-1) + 1];
+        Arrays.stream(columns).forEach(column -> projection[column] = true);
+        final var lines = lines(path, isGzip());
+        Metrics.open(path, startTime);
+        return Metrics.map(
+            lines
+                .skip(hasHeaderRow ? 1L : 0L) // Skip the first header row if explicitly specified.
+                .map(Settings.FAST ? line -> line : String::strip),
+            Metrics.Stage.TOKENIZE,
+            line -> split(line, separator, projection)
+        );
     }
 
     //==================================================================================================================
@@ -78,40 +122,133 @@ non-sealed class TableFileReader extends AbstractTableFileProcessor implements T
     //==================================================================================================================
 
     /**
-     * Read a given {@link Path}'s file lazily into a {@link Stream} of non-empty lines.
+     * Read a given {@link Path}'s file lazily into a {@link Stream} of non-empty lines, decompressing it on the fly if
+     *   it is gzip-compressed.
      *
      * @param path The {@link Path} of the file to read lazily into a {@link Stream} of non-empty lines
      *
      * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown from
-     *                              {@link Files#lines(Path)}
+     *                              {@link Files#lines(Path)} or {@link GzipFile#lines(Path)}
      *
      * @see Files#lines(Path)
      */
-    @SuppressWarnings("resource") // The stream must be closed by the caller.
     static Stream<String> lines(Path path) throws UncheckedIOException {
+        return lines(path, GzipFile.isGzip(path));
+    }
+
+    /**
+     * Create a {@link TableSupplier} that reads given {@link FileChunk}s of this {@link TableFileReader}'s file (e.g.,
+     *   only the lines appended to it since it was last read) using this {@link TableFileReader}'s column separator.
+     *
+     * @param chunks The {@link FileChunk}s of this {@link TableFileReader}'s file to read; these must not include the
+     *               header row
+     */
+    TableSupplier read(Collection<FileChunk> chunks) {
+        return new TableSupplier() {
+            @Override
+            public Stream<String[]> get() {
+                Metrics.read(size(chunks));
+                return lines(chunks.stream()).map(TableFileReader.this::split);
+            }
+
+            @Override
+            public Stream<String[]> get(int... columns) {
+                if (!RowTokenizer.supports(separator)) {
+                    return get(); // Fall back to splitting every line in full for regular-expression-based separators.
+                }
+                Metrics.read(size(chunks));
+                return chunks.stream().flatMap(chunk -> chunk.rows(separator.charAt(0), columns));
+            }
+        };
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Cut this {@link TableFileReader}'s file into {@link FileChunk}s that can be read concurrently, if possible.
+     *
+     * @return The {@link FileChunk}s of a multi-member gzip file if the {@link Settings#PARALLEL} and
+     *         {@link Settings#GZIP_MEMBERS} settings are enabled, or those of the memory-mapped file if the
+     *         {@link Settings#MAPPED} setting is enabled; otherwise, nothing, in which case the file should be read line
+     *         by line
+     */
+    private Optional<Stream<FileChunk>> chunks() {
+        if (isGzip()) {
+            return Settings.PARALLEL && Settings.GZIP_MEMBERS ? GzipFile.chunks(path, hasHeaderRow) : Optional.empty();
+        }
+        return Settings.MAPPED ? Optional.of(Arrays.stream(FileChunk.map(path, hasHeaderRow))) : Optional.empty();
+    }
+
+    /**
+     * Read a given {@link Path}'s file lazily into a {@link Stream} of non-empty lines, decompressing it on the fly if
+     *   it is known to be gzip-compressed.
+     */
+    @SuppressWarnings("resource") // The stream must be closed by the caller.
+    private static Stream<String> lines(Path path, boolean isGzip) throws UncheckedIOException {
         try {
-            final var lines = Files.lines(path);
+            final var lines = isGzip ? GzipFile.lines(path) : Files.lines(path);
             return Settings.FAST ? lines : lines.filter(Predicate.not(String::isEmpty));
         } catch (IOException exception) {
             throw new UncheckedIOException("Failed to open file for reading: " + path, exception);
         }
     }
 
-    //==================================================================================================================
-    // Private Helper Methods
-    //==================================================================================================================
+    /**
+     * Determine the total size in bytes of given {@link FileChunk}s, if metrics are recorded.
+     */
+    private static long size(Collection<FileChunk> chunks) {
+        return Metrics.ENABLED ? chunks.stream().mapToLong(FileChunk::size).sum() : 0L;
+    }
+
+    /**
+     * Read a given {@link Stream} of {@link FileChunk}s lazily into a {@link Stream} of non-empty lines.
+     */
+    private static Stream<String> lines(Stream<FileChunk> chunks) {
+        final var lines = chunks.flatMap(FileChunk::lines);
+        return Settings.FAST ? lines : lines.filter(Predicate.not(String::isEmpty));
+    }
+
+    /**
+     * Split a given line into all of its columns using this {@link TableFileReader}'s column separator.
+     */
+    private String[] split(String line) {
+        return (Settings.FAST ? line : line.strip()).split(separator);
+    }
+
+    /**
+     * Split a given line into columns using a given column separator, only extracting the columns included in a given
+     *   projection.
+     *
+     * @param line The line to split into columns
+     * @param separator The column separator to use for splitting the line into columns
+     * @param projection The flags indicating which column indexes to extract
+     * @return The columns of the line; every column not included in the projection is {@code null}
+     */
+    private static String[] split(String line, char separator, boolean[] projection) {
+        final var columns = new String[projection.length];
+        var start = 0;
+
+        for (var column = 0; column < projection.length && start <= line.length(); column++) {
+            var end = line.indexOf(separator, start);
+            end = end >= 0 ? end : line.length();
+            if (projection[column]) {
+                columns[column] = line.substring(start, end);
+            }
+            start = end + 1;
+        }
+
+        return columns;
+    }
 
     /**
      * Determine whether this {@link TableFileReader}'s file has a header row by comparing its first line's character
      *   types.
      */
     private boolean hasHeaderRow() {
-        try (var firstLine = lines(path).limit(1L)) {
-            return firstLine.allMatch(this::isHeaderRow);
-        } catch (UncheckedIOException exception) {
-            // Do not fail if we can't read the file to determine the header row; this is an optional feature.
-            return false;
-        }
+        // Do not fail if we can't read the file to determine the header row; this is an optional feature.
+        return firstLine().map(this::isHeaderRow).orElse(false);
     }
 
     /**
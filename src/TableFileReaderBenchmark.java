@@ -0,0 +1,55 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * This class benchmarks reading a generated flow log file of {@value #ROWS} rows using {@link TableFileReader}, with and
+ *   without projecting the columns that {@link FlowLogProcessor} reads.
+ */
+class TableFileReaderBenchmark extends BaseBenchmark {
+    private static final int ROWS = 1 << 19;
+    private static final int DESTINATION_PORT = 6;
+    private static final int PROTOCOL = 7;
+
+    private final TableFileReader reader;
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String... args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    TableFileReaderBenchmark() throws IOException {
+        final var path = Files.createTempFile(getClass().getSimpleName(), ".log");
+        path.toFile().deleteOnExit();
+
+        try (var writer = new TableFileWriter(path, " "); var rows = new FlowLogGenerator(ROWS).get()) {
+            writer.rows(rows);
+        }
+        reader = new TableFileReader(path);
+    }
+
+    //==================================================================================================================
+    // Benchmarks
+    //==================================================================================================================
+
+    @Benchmark
+    long get() {
+        try (var rows = reader.get()) {
+            return rows.mapToLong(columns -> columns.length).sum();
+        }
+    }
+
+    @Benchmark
+    long getProjected() {
+        try (var rows = reader.get(DESTINATION_PORT, PROTOCOL)) {
+            return rows.mapToLong(columns -> columns[DESTINATION_PORT].length() + columns[PROTOCOL].length()).sum();
+        }
+    }
+}
@@ -1,3 +1,4 @@
+import java.util.Arrays;
 import java.util.Spliterators;
 
 class TableFileReaderTest extends BaseUnitTest {
@@ -20,6 +21,18 @@ class TableFileReaderTest extends BaseUnitTest {
         assertRows(TARGET.get().count());
     }
 
+    @Test
+    void get_givenProjection_willReturnProjectedColumnsOnly() {
+        try (var rows = TARGET.get(); var projectedRows = TARGET.get(2)) {
+            final var expected = rows.map(columns -> new String[] {null, null, columns[2]}).toArray(String[][]::new);
+            final var given = projectedRows.map(columns -> Arrays.copyOf(columns, 3)).toArray(String[][]::new);
+            assert$(
+                equals(given, expected),
+                () -> "Unexpected rows: expected=%s, given=%s".formatted(toString(expected), toString(given))
+            );
+        }
+    }
+
     @Test
     void iterator_shouldReturnStreamWithExpectedRowCount() {
         assertRows(Utils.stream(Spliterators.spliteratorUnknownSize(TARGET.iterator(), 0)).count());
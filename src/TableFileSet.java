@@ -0,0 +1,200 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This class reads a set of tabular data files, given as a single file, a directory, or a glob pattern, lazily into a
+ *   single {@link Stream} of columns as string arrays.
+ * <br/><br/>
+ *
+ * Every file is read using its own {@link TableFileReader}, so the column separator and header row are inferred for
+ *   every file individually. The files are ordered from largest to smallest so that callers processing them
+ *   concurrently can schedule the largest files first; see {@link #paths()}.
+ *
+ * @apiNote {@link Stream}s created by instances of this class must be used with a
+ *          <a href="https://docs.oracle.com/javase/tutorial/essential/exceptions/tryResourceClose.html">try-with-resources
+ *          statement</a> to ensure any underlying resources are properly closed.
+ */
+final class TableFileSet implements TableSupplier {
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    private final String pattern;
+    private final List<Path> paths;
+    private final long size;
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    /**
+     * Construct an instance of {@link TableFileSet} that reads from every regular file matching a given pattern.
+     *
+     * @param pattern The path of a single file, the path of a directory whose regular files (including those in its
+     *                subdirectories) should be read, or a {@linkplain FileSystems#getDefault() default file system}
+     *                glob pattern (e.g., {@code logs/2024-*}{@code /**.log.gz})
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while searching for
+     *                              files, or a {@link NoSuchFileException} if no files match the given pattern
+     */
+    TableFileSet(String pattern) throws UncheckedIOException {
+        final var sizes = find(pattern);
+        this.pattern = pattern;
+        paths = sizes
+            .entrySet()
+            .stream()
+            .sorted(Map.Entry.<Path, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry::getKey))
+            .map(Map.Entry::getKey)
+            .toList();
+        size = sizes.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    //==================================================================================================================
+    // Factory Methods
+    //==================================================================================================================
+
+    /**
+     * Create a {@link TableSupplier} that reads from every regular file matching a given pattern.
+     *
+     * @param pattern The path of a single file, the path of a directory, or a glob pattern; see
+     *                {@link #TableFileSet(String)}
+     * @return A {@link TableFileReader} if exactly one file matches the given pattern (so that it can be processed like
+     *         any other single file); otherwise, a {@link TableFileSet}
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while searching for
+     *                              files, or a {@link NoSuchFileException} if no files match the given pattern
+     */
+    static TableSupplier open(String pattern) throws UncheckedIOException {
+        final var files = new TableFileSet(pattern);
+        return files.paths.size() == 1 ? new TableFileReader(files.paths.get(0)) : files;
+    }
+
+    //==================================================================================================================
+    // Supplier Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * @implNote This method returns a lazy {@link Stream} that reads the files one after another. Every file is only
+     *           opened once the previous file has been read completely.
+     */
+    @Override
+    public Stream<String[]> get() {
+        return paths.stream().flatMap(path -> new TableFileReader(path).get());
+    }
+
+    /**
+     * @implNote This method returns a lazy {@link Stream} that reads the files one after another. Every file is only
+     *           opened once the previous file has been read completely.
+     */
+    @Override
+    public Stream<String[]> get(int... columns) {
+        return paths.stream().flatMap(path -> new TableFileReader(path).get(columns));
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Retrieve the {@link Path}s of the files in this {@link TableFileSet}, ordered from the largest file to the
+     *   smallest.
+     */
+    List<Path> paths() {
+        return paths;
+    }
+
+    //==================================================================================================================
+    // Object Implementation Methods
+    //==================================================================================================================
+
+    @Override
+    public String toString() {
+        return "%s[pattern=%s, files=%d, size=%d]".formatted(super.toString(), pattern, paths.size(), size);
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Find every regular file matching a given pattern.
+     *
+     * @return The sizes of the files found, keyed by their {@link Path}s
+     */
+    private static Map<Path, Long> find(String pattern) throws UncheckedIOException {
+        final var glob = pattern.chars().anyMatch(character -> GLOB_CHARACTERS.indexOf(character) >= 0);
+        final var root = glob ? root(pattern) : Path.of(pattern);
+        final PathMatcher matcher = glob ? FileSystems.getDefault().getPathMatcher("glob:" + pattern) : path -> true;
+        final BiPredicate<Path, BasicFileAttributes> filter =
+            (path, attributes) -> attributes.isRegularFile() && matcher.matches(path);
+
+        try (var paths = Files.find(root, glob ? depth(pattern) : Integer.MAX_VALUE, filter)) {
+            final var sizes = paths.collect(Collectors.toMap(path -> path, TableFileSet::size));
+            if (sizes.isEmpty()) {
+                throw new NoSuchFileException(pattern, null, "No files match the pattern");
+            }
+            return sizes;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to find files: " + pattern, exception);
+        }
+    }
+
+    /**
+     * Determine the directory to search for files matching a given glob pattern, which is its longest leading path
+     *   that contains no glob characters.
+     */
+    private static Path root(String pattern) {
+        return Path.of(pattern.substring(0, rootLength(pattern)));
+    }
+
+    /**
+     * Determine the length of the directory to search for files matching a given glob pattern, including its trailing
+     *   separator; see {@link #root(String)}.
+     */
+    private static int rootLength(String pattern) {
+        var end = 0;
+        while (GLOB_CHARACTERS.indexOf(pattern.charAt(end)) < 0) {
+            end++;
+        }
+
+        return Math.max(pattern.lastIndexOf('/', end), pattern.lastIndexOf(File.separatorChar, end)) + 1;
+    }
+
+    /**
+     * Determine how deep below its {@linkplain #root(String) root directory} a file matching a given glob pattern can
+     *   be, which is the number of path segments of the pattern below the root directory, unless the pattern crosses
+     *   directories with {@code **}.
+     *
+     * @implNote Segments within groups (e.g., {@code {a,b/c}}) are all counted, which can only overestimate the depth.
+     */
+    private static int depth(String pattern) {
+        if (pattern.contains("**")) {
+            return Integer.MAX_VALUE;
+        }
+
+        return 1 + (int) pattern
+            .substring(rootLength(pattern))
+            .chars()
+            .filter(character -> character == '/' || character == File.separatorChar)
+            .count();
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to determine file size: " + path, exception);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+class TableFileSetTest extends BaseUnitTest {
+    private static final Path DIRECTORY = createTempDirectory();
+    private static final List<Path> PATHS = List.of(
+        createFile(DIRECTORY.resolve("small.csv"), 1),
+        createFile(DIRECTORY.resolve("large.csv"), 100),
+        createFile(DIRECTORY.resolve("nested").resolve("medium.csv"), 10),
+        createFile(DIRECTORY.resolve("nested").resolve("ignored.txt"), 1000)
+    );
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void paths_givenFile_willReturnFileOnly() {
+        assertPaths(new TableFileSet(PATHS.get(0).toString()), PATHS.get(0));
+    }
+
+    @Test
+    void paths_givenDirectory_willReturnAllFilesLargestFirst() {
+        assertPaths(new TableFileSet(DIRECTORY.toString()), PATHS.get(3), PATHS.get(1), PATHS.get(2), PATHS.get(0));
+    }
+
+    @Test
+    void paths_givenGlob_willReturnMatchingFilesLargestFirst() {
+        assertPaths(new TableFileSet(DIRECTORY + "/**.csv"), PATHS.get(1), PATHS.get(2), PATHS.get(0));
+        assertPaths(new TableFileSet(DIRECTORY + "/*.csv"), PATHS.get(1), PATHS.get(0));
+    }
+
+    @Test
+    void constructor_givenGlobWithoutMatches_willThrowException() {
+        try {
+            new TableFileSet(DIRECTORY + "/*.log");
+            assert$(false, "Expected an exception to be thrown");
+        } catch (UncheckedIOException exception) {
+            // This is expected.
+        }
+    }
+
+    @Test
+    void get_shouldReturnRowsOfAllFiles() {
+        try (var rows = new TableFileSet(DIRECTORY + "/**.csv").get(1)) {
+            final var rowCount = rows.count();
+            assert$(rowCount == 111L, "Unexpected row count: expected=111, given=" + rowCount);
+        }
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static void assertPaths(TableFileSet target, Path... expected) {
+        final var given = target.paths();
+        assert$(
+            given.equals(List.of(expected)),
+            () -> "Unexpected paths: expected=%s, given=%s".formatted(List.of(expected), given)
+        );
+    }
+
+    private static Path createFile(Path path, int rows) {
+        try {
+            Files.createDirectories(path.getParent()).toFile().deleteOnExit();
+            path.toFile().deleteOnExit(); // Delete the file after the JVM terminates.
+
+            final var random = ThreadLocalRandom.current();
+            final var content = new StringBuilder("port,protocol");
+            for (var row = 0; row < rows; row++) {
+                content.append('\n').append(random.nextInt(1 << 16)).append(",tcp");
+            }
+            return Files.writeString(path, content);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to create temporary file for testing", exception);
+        }
+    }
+}
@@ -1,12 +1,11 @@
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
 class TableFileWriterTest extends BaseUnitTest {
-    private static final Path PATH = createTempFile();
+    private static final Path PATH = createTempFile(null, "");
     private static final String SEPARATOR = Constants.SEPARATORS.get("csv");
     private static final TableFileWriter TARGET = new TableFileWriter(PATH, SEPARATOR);
 
@@ -123,14 +122,4 @@ class TableFileWriterTest extends BaseUnitTest {
             );
         }
     }
-
-    private static Path createTempFile() {
-        try {
-            final var path = Files.createTempFile(null, null);
-            path.toFile().deleteOnExit(); // Delete the file after the JVM terminates.
-            return path;
-        } catch (IOException exception) {
-            throw new UncheckedIOException("Failed to create temporary file for testing", exception);
-        }
-    }
 }
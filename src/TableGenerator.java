@@ -39,7 +39,9 @@ class TableGenerator implements TableSupplier {
     TableGenerator(Long rows, Supplier<?>... columnGenerators) {
         this.rows = rows;
         this.columnGenerators = Objects.requireNonNull(columnGenerators);
-        applicator = columnGenerators.length >= Constants.PARALLELISM ? Arrays::parallelSetAll : Arrays::setAll;
+        applicator = ExecutionPlanner.parallelColumns(rows, columnGenerators.length)
+            ? TableGenerator::parallelSetAll
+            : Arrays::setAll;
     }
 
     //==================================================================================================================
@@ -55,6 +57,17 @@ class TableGenerator implements TableSupplier {
         return (rows != null ? generator.limit(rows) : generator).map(this::generate);
     }
 
+    //==================================================================================================================
+    // Package-private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Retrieve the number of rows generated by this {@link TableGenerator}, or {@code null} if it is infinite.
+     */
+    Long rows() {
+        return rows;
+    }
+
     //==================================================================================================================
     // Iterable Implementation Methods
     //==================================================================================================================
@@ -87,4 +100,14 @@ class TableGenerator implements TableSupplier {
         applicator.accept(columns, index -> String.valueOf(columnGenerators[index].get()));
         return columns;
     }
+
+    /**
+     * Generate the columns of a row in parallel in {@link Constants#POOL}; see {@link Arrays#parallelSetAll}.
+     */
+    private static void parallelSetAll(String[] columns, IntFunction<String> generator) {
+        Utils.compute(() -> {
+            Arrays.parallelSetAll(columns, generator);
+            return columns;
+        });
+    }
 }
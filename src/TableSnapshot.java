@@ -0,0 +1,182 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This interface saves the rows of a tabular data file (e.g., a lookup table) to a compact binary snapshot, and loads
+ *   them back with a single read, so that short-lived runs do not need to infer the file's column separator and header
+ *   row and split every line again (see {@link Settings#SNAPSHOT}).
+ * <br/><br/>
+ *
+ * A snapshot file is a {@link ChecksummedFile} with the magic number {@code FLTS}, whose body consists of the
+ *   following:
+ * <ul>
+ *   <li>The size and last modified time of the source file that the snapshot was taken of</li>
+ *   <li>The number of rows, followed by every row's number of columns and every column's value</li>
+ * </ul>
+ *
+ * A snapshot is only used if the size and last modified time of its source file still match; otherwise, it is taken
+ *   again from the source file.
+ */
+interface TableSnapshot {
+    int MAGIC = 0x464c5453; // FLTS
+    int VERSION = 1;
+
+    /**
+     * Retrieve a {@link TableSupplier} of the rows of a given source file, which are loaded from a given snapshot file
+     *   if it is up to date, or otherwise read from the source file and saved to the snapshot file.
+     *
+     * @param source The {@link Path} of the tabular data file
+     * @param snapshot The {@link Path} of the snapshot file; it does not need to exist yet
+     * @return A {@link TableSupplier} of the source file's rows; this is a plain {@link TableFileReader} of the source
+     *         file if the {@link Settings#SNAPSHOT} setting is disabled
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while reading the
+     *                              source file
+     *
+     * @implNote A snapshot file that cannot be read or written is ignored, since the source file can always be read
+     *           instead.
+     */
+    static TableSupplier load(Path source, Path snapshot) throws UncheckedIOException {
+        if (!Settings.SNAPSHOT || !Files.isRegularFile(source)) {
+            return new TableFileReader(source);
+        }
+
+        try {
+            final var rows = read(snapshot, source);
+            return rows::stream;
+        } catch (UncheckedIOException | IllegalArgumentException exception) {
+            if (Files.exists(snapshot)) {
+                Loggers.INFO.accept("[!] Taking the outdated or invalid snapshot of [%s] again...".formatted(source));
+            }
+        }
+
+        final List<String[]> rows;
+        try (var stream = new TableFileReader(source).get()) {
+            rows = stream.toList();
+        }
+        try {
+            write(snapshot, source, rows);
+        } catch (UncheckedIOException exception) {
+            Loggers.ERROR.accept("Failed to write snapshot; this will be ignored: " + snapshot, exception);
+        }
+        return rows::stream;
+    }
+
+    /**
+     * Load the rows saved to a given snapshot file of a given source file.
+     *
+     * @param path The {@link Path} of the snapshot file
+     * @param source The {@link Path} of the tabular data file that the snapshot was taken of
+     * @return The rows saved to the snapshot file
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while reading the
+     *                              snapshot file or the source file's attributes
+     * @throws IllegalArgumentException If the file is not a valid snapshot file, or it is outdated (i.e., the source
+     *                                  file has changed since)
+     */
+    static List<String[]> read(Path path, Path source) throws UncheckedIOException, IllegalArgumentException {
+        final ChecksummedFile.Contents contents;
+        try {
+            contents = ChecksummedFile
+                .read(path, MAGIC)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid snapshot file: " + path));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read snapshot file: " + path, exception);
+        }
+
+        try {
+            final var version = contents.version();
+            final var bytes = contents.body();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported snapshot file version %d: %s".formatted(version, path));
+            } else if (bytes.getLong() != size(source) || bytes.getLong() != lastModifiedTime(source)) {
+                throw new IllegalArgumentException("Outdated snapshot file: " + path);
+            }
+
+            final var rows = new ArrayList<String[]>();
+            for (var count = bytes.getInt(); count > 0; count--) {
+                final var row = new String[Short.toUnsignedInt(bytes.getShort())];
+                for (var column = 0; column < row.length; column++) {
+                    final var value = new byte[bytes.getInt()];
+                    bytes.get(value);
+                    row[column] = new String(value, StandardCharsets.UTF_8);
+                }
+                rows.add(row);
+            }
+            return rows;
+        } catch (BufferUnderflowException | NegativeArraySizeException exception) {
+            throw new IllegalArgumentException("Invalid snapshot file: " + path, exception);
+        }
+    }
+
+    /**
+     * Save given rows of a given source file to a snapshot file atomically, replacing any existing file.
+     *
+     * @param path The {@link Path} of the snapshot file
+     * @param source The {@link Path} of the tabular data file that the rows were read from
+     * @param rows The rows to save
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while writing the
+     *                              snapshot file or reading the source file's attributes
+     *
+     * @see ChecksummedFile#write(Path, int, int, ByteBuffer)
+     */
+    static void write(Path path, Path source, List<String[]> rows) throws UncheckedIOException {
+        final var values = new ArrayList<byte[]>();
+        var size = Integer.BYTES + Long.BYTES * 2;
+        for (final var row : rows) {
+            size += Short.BYTES;
+            for (final var column : row) {
+                values.add(column.getBytes(StandardCharsets.UTF_8));
+                size += Integer.BYTES + values.getLast().length;
+            }
+        }
+
+        final var bytes = ByteBuffer
+            .allocate(size)
+            .putLong(size(source))
+            .putLong(lastModifiedTime(source))
+            .putInt(rows.size());
+        final var columns = values.iterator();
+        for (final var row : rows) {
+            bytes.putShort((short) row.length);
+            for (var column = 0; column < row.length; column++) {
+                final var value = columns.next();
+                bytes.putInt(value.length).put(value);
+            }
+        }
+
+        try {
+            ChecksummedFile.write(path, MAGIC, VERSION, bytes.flip());
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to write snapshot file: " + path, exception);
+        }
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    private static long size(Path source) throws UncheckedIOException {
+        try {
+            return Files.size(source);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read attributes of file: " + source, exception);
+        }
+    }
+
+    private static long lastModifiedTime(Path source) throws UncheckedIOException {
+        try {
+            return Files.getLastModifiedTime(source).toMillis();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read attributes of file: " + source, exception);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+class TableSnapshotTest extends BaseUnitTest {
+    private static final String SOURCE = "dstport,protocol,tag\n25,tcp,sv_P1\n68,udp,sv_P2\n0,icmp,sv_P5\n";
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void read_givenWrite_willReturnEqualRows() {
+        final var source = createTempFile(".csv", SOURCE);
+        final var path = createTempFile(".bin", "");
+        final List<String[]> expected;
+        try (var rows = new TableFileReader(source).get()) {
+            expected = rows.toList();
+        }
+        TableSnapshot.write(path, source, expected);
+
+        final var given = TableSnapshot.read(path, source);
+        assert$(
+            Arrays.deepEquals(given.toArray(), expected.toArray()),
+            () -> "Unexpected rows: expected=%s, given=%s".formatted(
+                Arrays.deepToString(expected.toArray()),
+                Arrays.deepToString(given.toArray())
+            )
+        );
+        assert$(new Tags(given::stream).equals(new Tags(new TableFileReader(source))), "Unexpected tags");
+    }
+
+    @Test
+    void read_givenChangedSource_willThrowException() throws IOException {
+        final var source = createTempFile(".csv", SOURCE);
+        final var path = createTempFile(".bin", "");
+        TableSnapshot.write(path, source, List.<String[]>of(new String[] {"25", "tcp", "sv_P1"}));
+
+        final var lastModifiedTime = Files.getLastModifiedTime(source).toMillis();
+        Files.setLastModifiedTime(source, FileTime.fromMillis(lastModifiedTime + 1_000L));
+        try {
+            TableSnapshot.read(path, source);
+            assert$(false, "Expected an exception to be thrown");
+        } catch (IllegalArgumentException exception) {
+            // This is expected.
+        }
+    }
+
+    @Test
+    void read_givenCorruptFile_willThrowException() throws IOException {
+        final var source = createTempFile(".csv", SOURCE);
+        final var path = createTempFile(".bin", "");
+        TableSnapshot.write(path, source, List.<String[]>of(new String[] {"25", "tcp", "sv_P1"}));
+
+        final var bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(path, bytes);
+        try {
+            TableSnapshot.read(path, source);
+            assert$(false, "Expected an exception to be thrown");
+        } catch (IllegalArgumentException exception) {
+            // This is expected.
+        }
+    }
+}
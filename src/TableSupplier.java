@@ -36,6 +36,24 @@ interface TableSupplier extends Supplier<Stream<String[]>>, Iterable<String[]> {
     @Override
     Stream<String[]> get();
 
+    /**
+     * Retrieve a {@link Stream} of the tabular data as string column arrays, where only a given projection of columns
+     *   is required by the caller.
+     *
+     * @param columns The indexes of the columns required by the caller
+     * @return A {@link Stream} of the tabular data as string column arrays; the columns not included in the projection
+     *         may be {@code null}
+     *
+     * @apiNote {@link Stream}s retrieved using this method must be used with a
+     *          <a href="https://docs.oracle.com/javase/tutorial/essential/exceptions/tryResourceClose.html">try-with-resources
+     *          statement</a> to ensure any underlying resources are properly closed.
+     * @implSpec The default implementation ignores the projection and returns {@link #get()}. Implementers backed by a
+     *           data source that must be parsed should skip parsing the columns not included in the projection.
+     */
+    default Stream<String[]> get(int... columns) {
+        return get();
+    }
+
     //==================================================================================================================
     // Iterable Implementation Methods
     //==================================================================================================================
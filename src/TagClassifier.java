@@ -0,0 +1,100 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is an immutable, read-optimized snapshot of {@link Tags} that classifies {@link ProtocolKey}s into their
+ *   tags without hashing or comparing any {@link String}s.
+ * <br/><br/>
+ *
+ * For every IANA-assigned protocol number that has at least one tag, a {@code short[65536]} of tag IDs indexed by
+ *   destination port is allocated, so classifying a packed {@link ProtocolKey} takes two array loads followed by a
+ *   lookup in a small tag name table. {@link ProtocolKey}s that were not packed fall back to a copy of the {@link Tags}'
+ *   mappings.
+ *
+ * @see Tags#compile()
+ */
+final class TagClassifier {
+    private static final int PORTS = 1 << 16;
+    private static final int NUMBERS = 1 << 8;
+    private static final short UNTAGGED = 0;
+
+    private final short[][] ids = new short[NUMBERS][];
+    private final String[] names;
+    private final Map<Protocol, String> fallback;
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    /**
+     * Compile a given {@link Tags} into a {@link TagClassifier}, using a given {@link IANAProtocols} to determine which
+     *   protocol numbers every tagged protocol name corresponds to.
+     *
+     * @param tags The {@link Tags} to compile
+     * @param ianaProtocols The {@link IANAProtocols} to use to name protocol numbers; this must be the same one used to
+     *                      resolve {@link ProtocolKey}s into {@link Protocol}s
+     *
+     * @throws IllegalStateException If there are more distinct tags than can be identified by a {@code short}
+     */
+    TagClassifier(Tags tags, IANAProtocols ianaProtocols) throws IllegalStateException {
+        fallback = Map.copyOf(tags);
+
+        // Group the protocol numbers by their names, the same way ProtocolKey resolves them.
+        final var numbers = new HashMap<String, List<Integer>>();
+        for (var number = 0; number < NUMBERS; number++) {
+            final var protocol = ianaProtocols.getOrDefault(number, Protocol.UNKNOWN);
+            numbers.computeIfAbsent(protocol.name(), name -> new ArrayList<>()).add(number);
+        }
+
+        final var names = new ArrayList<String>(List.of("")); // Reserve ID 0 for untagged ports.
+        final var nameIDs = new HashMap<String, Integer>();
+        fallback.forEach((protocol, tag) -> {
+            final var port = ProtocolKey.parse(protocol.port());
+            if (ProtocolKey.of(port, 0) == ProtocolKey.UNPACKABLE) {
+                return; // The port is not a canonical number, so only the fallback mappings can match it.
+            }
+
+            final var id = nameIDs.computeIfAbsent(tag, name -> { names.add(name); return names.size() - 1; });
+            if (id > Character.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct tags to compile: " + id);
+            }
+
+            for (final var number : numbers.getOrDefault(protocol.name(), List.of())) {
+                final var ports = ids[number] != null ? ids[number] : (ids[number] = new short[PORTS]);
+                ports[port] = (short) id.intValue();
+            }
+        });
+
+        this.names = names.toArray(String[]::new);
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Classify a given {@link ProtocolKey} into its tag.
+     *
+     * @param key The {@link ProtocolKey} to classify
+     * @param defaultTag The tag to return if the given {@link ProtocolKey} has none
+     * @return The tag of the given {@link ProtocolKey}, or the given default tag if it has none
+     */
+    String getOrDefault(int key, String defaultTag) {
+        if (!ProtocolKey.isPacked(key)) {
+            return fallback.getOrDefault(ProtocolKey.toProtocol(key), defaultTag);
+        }
+
+        final var ports = ids[ProtocolKey.number(key)];
+        final var id = ports != null ? ports[ProtocolKey.port(key)] : UNTAGGED;
+        return id != UNTAGGED ? names[Short.toUnsignedInt(id)] : defaultTag;
+    }
+
+    /**
+     * Retrieve the number of distinct tags.
+     */
+    int size() {
+        return names.length - 1;
+    }
+}
@@ -0,0 +1,62 @@
+import java.util.stream.Stream;
+
+class TagClassifierTest extends BaseUnitTest {
+    private static final int[] PORTS = {0, 22, 23, 25, 68, 443, 65535};
+    private static final Tags TAGS =
+        new Tags(() -> Stream.of(
+            "25,tcp,sv_P1".split(","),
+            "68,udp,sv_P2".split(","),
+            "23,TCP,sv_P1".split(","),
+            "0,icmp,sv_P5".split(","),
+            "65535,tcp,sv_P6".split(","),
+            "023,tcp,sv_P7".split(","),
+            "-,-,sv_P8".split(",")
+        ));
+    private static final TagClassifier TARGET = TAGS.compile();
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void getOrDefault_shouldMatchTagsForPackedKeys() {
+        for (final var port : PORTS) {
+            for (var number = 0; number < 256; number++) {
+                assertTag(ProtocolKey.of(port, number));
+            }
+        }
+    }
+
+    @Test
+    void getOrDefault_shouldMatchTagsForDictionaryKeys() {
+        assertTag(ProtocolKey.of("023", "6"));
+        assertTag(ProtocolKey.of("-", "-"));
+        assertTag(ProtocolKey.of("22", "256"));
+    }
+
+    @Test
+    void size_shouldCountDistinctTags() {
+        assert$(TARGET.size() == 4, "Unexpected tag count: " + TARGET.size()); // sv_P7 and sv_P8 are fallback-only.
+    }
+
+    //==================================================================================================================
+    // Assertion Helpers
+    //==================================================================================================================
+
+    private static void assertTag(int key) {
+        final var expected = TAGS.getOrDefault(ProtocolKey.toProtocol(key), "Untagged");
+        final var given = TARGET.getOrDefault(key, "Untagged");
+        assert$(
+            expected.equals(given),
+            () -> "Unexpected tag of [%s]: expected=%s, given=%s".formatted(ProtocolKey.toProtocol(key), expected, given)
+        );
+    }
+}
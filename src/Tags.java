@@ -51,4 +51,30 @@ class Tags extends TableMap<Protocol, String> {
     Tags(TableSupplier data) {
         super(data, COLLECTOR);
     }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Compile the current mappings of this {@link Tags} into an immutable, read-optimized {@link TagClassifier}, using
+     *   {@link Constants#IANA_PROTOCOLS} to determine which protocol numbers every protocol name corresponds to.
+     *
+     * @apiNote Changes made to this {@link Tags} afterward are not reflected in the returned {@link TagClassifier}.
+     */
+    TagClassifier compile() {
+        return compile(Constants.IANA_PROTOCOLS.get());
+    }
+
+    /**
+     * Compile the current mappings of this {@link Tags} into an immutable, read-optimized {@link TagClassifier}, using
+     *   a given {@link IANAProtocols} to determine which protocol numbers every protocol name corresponds to.
+     *
+     * @param ianaProtocols The {@link IANAProtocols} to use to name protocol numbers
+     *
+     * @apiNote Changes made to this {@link Tags} afterward are not reflected in the returned {@link TagClassifier}.
+     */
+    TagClassifier compile(IANAProtocols ianaProtocols) {
+        return new TagClassifier(this, ianaProtocols);
+    }
 }
@@ -0,0 +1,54 @@
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class benchmarks looking up the tags of {@value #SIZE} random port/protocol combinations in
+ *   {@link Constants#TAGS}, both through its {@link java.util.Map} API and through its compiled {@link TagClassifier}.
+ */
+class TagsBenchmark extends BaseBenchmark {
+    private static final int SIZE = 1 << 10;
+    private static final int[] NUMBERS = {1, 6, 17};
+    private static final String UNTAGGED = "Untagged";
+
+    private final Protocol[] protocols = new Protocol[SIZE];
+    private final int[] keys = new int[SIZE];
+    private final TagClassifier classifier = Constants.TAGS.get().compile();
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String... args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    TagsBenchmark() {
+        final var random = ThreadLocalRandom.current();
+        for (var index = 0; index < SIZE; index++) {
+            // Draw from a small range of ports so that a realistic share of the combinations is tagged.
+            keys[index] = ProtocolKey.of(random.nextInt(1 << 12), NUMBERS[random.nextInt(NUMBERS.length)]);
+            protocols[index] = ProtocolKey.toProtocol(keys[index]);
+        }
+    }
+
+    //==================================================================================================================
+    // Benchmarks
+    //==================================================================================================================
+
+    @Benchmark
+    void getOrDefault(Blackhole blackhole) {
+        for (var index = 0; index < SIZE; index++) {
+            blackhole.consume(Constants.TAGS.get().getOrDefault(protocols[index], UNTAGGED));
+        }
+    }
+
+    @Benchmark
+    void getOrDefaultCompiled(Blackhole blackhole) {
+        for (var index = 0; index < SIZE; index++) {
+            blackhole.consume(classifier.getOrDefault(keys[index], UNTAGGED));
+        }
+    }
+}
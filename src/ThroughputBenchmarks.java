@@ -0,0 +1,288 @@
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class benchmarks the end-to-end throughput of {@link FlowLogProcessor} over a matrix of inputs, writes the
+ *   results to a JSON report, and fails if the throughput of any input has regressed against a stored baseline report.
+ * <br/><br/>
+ *
+ * Every input is processed once in its own forked JVM for every combination of the following:
+ * <ul>
+ *   <li>Size: 10 MiB, 100 MiB, 1 GiB, and 10 GiB by default</li>
+ *   <li>Source: a flow log file generated up front ({@code file}), or rows generated on the fly
+ *     ({@code generated})</li>
+ *   <li>Settings: {@code -Dparallel=false -Dfast=false}, {@code -Dparallel=true -Dfast=false}, and {@code -Dfast=true}
+ *     (which implies {@code -Dparallel=true})</li>
+ * </ul>
+ * <br/>
+ *
+ * The suite can be configured using the following system properties:
+ * <ul>
+ *   <li>{@code throughput.sizes}: A comma-separated list of sizes in MiB (default: {@value #DEFAULT_SIZES})</li>
+ *   <li>{@code throughput.report}: The path to write the JSON report to (default: {@code out/throughput.json})</li>
+ *   <li>{@code throughput.baseline}: The path of the baseline JSON report (default:
+ *     {@code out/throughput_baseline.json})</li>
+ *   <li>{@code throughput.threshold}: The largest allowed drop in rows per second relative to the baseline
+ *     (default: {@value #DEFAULT_THRESHOLD})</li>
+ *   <li>{@code throughput.update}: Replace the baseline with the report if no regression was found (default:
+ *     {@code false})</li>
+ * </ul>
+ */
+public class ThroughputBenchmarks {
+    private static final String DEFAULT_SIZES = "10,100,1024,10240";
+    private static final String DEFAULT_THRESHOLD = "0.1";
+    private static final String FORK_PROPERTY = "throughput.fork";
+    private static final String FILE = "file";
+    private static final String GENERATED = "generated";
+    private static final boolean[][] SETTINGS = {{false, false}, {true, false}, {true, true}}; // {parallel, fast}
+    private static final double[] SIZES = Arrays
+        .stream(System.getProperty("throughput.sizes", DEFAULT_SIZES).split(","))
+        .mapToDouble(Double::parseDouble)
+        .toArray();
+    private static final Path REPORT_PATH = Path.of(System.getProperty(
+        "throughput.report",
+        Constants.OUTPUT_DIRECTORY.resolve("throughput.json").toString()
+    ));
+    private static final Path BASELINE_PATH = Path.of(System.getProperty(
+        "throughput.baseline",
+        Constants.OUTPUT_DIRECTORY.resolve("throughput_baseline.json").toString()
+    ));
+    private static final double THRESHOLD =
+        Double.parseDouble(System.getProperty("throughput.threshold", DEFAULT_THRESHOLD));
+    private static final boolean UPDATE = Boolean.getBoolean("throughput.update");
+
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String... args) throws IOException, InterruptedException {
+        final var fork = System.getProperty(FORK_PROPERTY);
+        if (fork != null) {
+            measure(args[0], Double.parseDouble(args[1]), Path.of(args[2]), Path.of(fork));
+            return;
+        }
+
+        final var results = new ArrayList<Map<String, Object>>();
+        final var directory = Files.createTempDirectory(ThroughputBenchmarks.class.getSimpleName());
+        try {
+            for (final var mebibytes : SIZES) {
+                final var file = directory.resolve(format(mebibytes) + "MiB.log");
+                generate(file, mebibytes);
+
+                try {
+                    for (final var source : List.of(FILE, GENERATED)) {
+                        for (final var settings : SETTINGS) {
+                            results.add(fork(source, mebibytes, file, settings[0], settings[1], directory));
+                        }
+                    }
+                } finally {
+                    Files.deleteIfExists(file); // Free up the disk space before generating the next size.
+                }
+            }
+        } finally {
+            delete(directory);
+        }
+
+        final var regressions = compare(results);
+        final var report = new LinkedHashMap<String, Object>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("processors", Runtime.getRuntime().availableProcessors());
+        report.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+        report.put("threshold", THRESHOLD);
+        report.put("results", results);
+        report.put("regressions", regressions);
+        Files.createDirectories(REPORT_PATH.toAbsolutePath().getParent());
+        Files.writeString(REPORT_PATH, Json.write(report) + System.lineSeparator());
+        Loggers.INFO.accept("[<] Wrote throughput report: " + REPORT_PATH);
+
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException(
+                "Throughput regressed past %.1f%%: %s".formatted(THRESHOLD * 100D, regressions)
+            );
+        } else if (UPDATE) {
+            Files.copy(REPORT_PATH, BASELINE_PATH, StandardCopyOption.REPLACE_EXISTING);
+            Loggers.INFO.accept("[<] Updated throughput baseline: " + BASELINE_PATH);
+        }
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Generate a flow log file of a given size in mebibytes.
+     */
+    private static void generate(Path path, double mebibytes) throws IOException {
+        try (var output = new TableFileWriter(path, " "); var rows = FlowLogGenerator.ofMebibytes(mebibytes).get()) {
+            output.rows(rows);
+        }
+    }
+
+    /**
+     * Process a single input in a forked JVM using the given settings.
+     *
+     * @return The results of the forked JVM
+     */
+    private static Map<String, Object> fork(
+        String source,
+        double mebibytes,
+        Path file,
+        boolean parallel,
+        boolean fast,
+        Path directory
+    ) throws IOException, InterruptedException {
+        final var name = "%s/%sMiB/parallel=%b/fast=%b".formatted(source, format(mebibytes), parallel, fast);
+        final var resultPath = directory.resolve("result.json");
+        Loggers.INFO.accept("[@] Running throughput benchmark: " + name);
+
+        final var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.addAll(List.of(
+            "-Dparallel=" + parallel,
+            "-Dfast=" + fast,
+            "-D%s=%s".formatted(FORK_PROPERTY, resultPath),
+            "-cp",
+            System.getProperty("java.class.path"),
+            ThroughputBenchmarks.class.getName(),
+            source,
+            String.valueOf(mebibytes),
+            file.toString()
+        ));
+
+        final var exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException(
+                "Forked throughput benchmark exited with code %d: %s".formatted(exitCode, name)
+            );
+        }
+
+        final var result = new LinkedHashMap<String, Object>();
+        result.put("name", name);
+        result.put("source", source);
+        result.put("mebibytes", mebibytes);
+        result.put("parallel", parallel);
+        result.put("fast", fast);
+        @SuppressWarnings("unchecked")
+        final var measurements = (Map<String, Object>) Json.parse(Files.readString(resultPath));
+        result.putAll(measurements);
+        Loggers.INFO.accept("[#] %s: %,.0f rows/s, %,.1f MiB/s, %,d MiB peak heap, %,d ms GC".formatted(
+            name,
+            ((Number) result.get("rowsPerSecond")).doubleValue(),
+            ((Number) result.get("mebibytesPerSecond")).doubleValue(),
+            ((Number) result.get("peakHeapBytes")).longValue() / Constants.MEBIBYTE_SCALE,
+            ((Number) result.get("gcMillis")).longValue()
+        ));
+        return result;
+    }
+
+    /**
+     * Process a single input within the current (forked) JVM, writing the measurements to a given {@link Path}.
+     *
+     * @implNote The peak heap usage is the sum of the peak usages of every heap memory pool, which is an upper bound of
+     *           the actual peak heap usage since the pools may not peak at the same time.
+     */
+    private static void measure(String source, double mebibytes, Path file, Path resultPath) throws IOException {
+        final var input = FILE.equals(source) ? new TableFileReader(file) : FlowLogGenerator.ofMebibytes(mebibytes);
+        final var processor = new FlowLogProcessor(input, TableConsumer.NOOP); // The output is negligible in size.
+        final var pools = ManagementFactory
+            .getMemoryPoolMXBeans()
+            .stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+        pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        final var gcMillis = gcMillis();
+        final var startTime = System.nanoTime();
+        processor.run();
+        final var seconds = (System.nanoTime() - startTime) / 1_000_000_000D;
+
+        final var rows = processor.rowCount();
+        final var bytes = FILE.equals(source) ? Files.size(file) : rows * Constants.FLOW_LOG_RECORD_SIZE;
+        final var measurements = new LinkedHashMap<String, Object>();
+        measurements.put("rows", rows);
+        measurements.put("bytes", bytes);
+        measurements.put("seconds", seconds);
+        measurements.put("rowsPerSecond", rows / seconds);
+        measurements.put("mebibytesPerSecond", bytes / (double) Constants.MEBIBYTE_SCALE / seconds);
+        measurements.put("peakHeapBytes", pools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum());
+        measurements.put("gcMillis", gcMillis() - gcMillis);
+        Files.writeString(resultPath, Json.write(measurements));
+    }
+
+    /**
+     * Compare the rows per second of given results against those of the baseline report with the same names.
+     *
+     * @return The names of the results that have regressed past the threshold
+     */
+    private static List<String> compare(List<Map<String, Object>> results) throws IOException {
+        if (!Files.exists(BASELINE_PATH)) {
+            Loggers.INFO.accept("[!] No throughput baseline found; skipping comparison: " + BASELINE_PATH);
+            return List.of();
+        }
+
+        final var baseline = new HashMap<Object, Double>();
+        final var report = (Map<?, ?>) Json.parse(Files.readString(BASELINE_PATH));
+        for (final var result : (List<?>) report.get("results")) {
+            final var entry = (Map<?, ?>) result;
+            baseline.put(entry.get("name"), ((Number) entry.get("rowsPerSecond")).doubleValue());
+        }
+
+        final var regressions = new ArrayList<String>();
+        for (final var result : results) {
+            final var name = (String) result.get("name");
+            final var expected = baseline.get(name);
+            if (expected == null) {
+                continue; // There is nothing to compare new inputs against.
+            }
+
+            final var change = ((Number) result.get("rowsPerSecond")).doubleValue() / expected - 1D;
+            result.put("baselineRowsPerSecond", expected);
+            result.put("change", change);
+            if (change < -THRESHOLD) {
+                Loggers.INFO.accept("[!] Throughput regressed by %.1f%%: %s".formatted(-change * 100D, name));
+                regressions.add(name);
+            } else {
+                Loggers.INFO.accept("[#] Throughput changed by %+.1f%%: %s".formatted(change * 100D, name));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Delete a given directory and the files within it.
+     */
+    private static void delete(Path directory) throws IOException {
+        try (var paths = Files.list(directory)) {
+            for (final var path : (Iterable<Path>) paths::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory
+            .getGarbageCollectorMXBeans()
+            .stream()
+            .mapToLong(collector -> Math.max(collector.getCollectionTime(), 0L))
+            .sum();
+    }
+
+    private static String format(double mebibytes) {
+        return mebibytes == Math.rint(mebibytes) ? String.valueOf((long) mebibytes) : String.valueOf(mebibytes);
+    }
+}
@@ -6,18 +6,40 @@ public class UnitTests extends BaseUnitTest {
         List.of(
             BaseUnitTestTest.class,
             UtilsTest.class,
+            JsonTest.class,
             ProtocolTest.class,
+            ProtocolCacheTest.class,
+            ProtocolKeyTest.class,
+            CounterMapTest.class,
+            FlowCountsTest.class,
+            CheckpointTest.class,
+            ChecksummedFileTest.class,
+            ResultStoreTest.class,
+            PartialCountsTest.class,
+            CountsFileTest.class,
             IANAProtocolsTest.class,
             TagsTest.class,
+            TableSnapshotTest.class,
+            TagClassifierTest.class,
             TableConsumerTest.class,
             TableSupplierTest.class,
             TableMapTest.class,
             AbstractTableFileProcessorTest.class,
+            FileChunkTest.class,
+            GzipFileTest.class,
+            RowTokenizerTest.class,
             TableFileReaderTest.class,
+            TableFileSetTest.class,
             TableFileWriterTest.class,
             TableGeneratorTest.class,
             FlowLogGeneratorTest.class,
             FlowLogProcessorTest.class,
+            FlowLogFollowerTest.class,
+            FlowLogPipelineTest.class,
+            ExecutionPlannerTest.class,
+            WarmUpTest.class,
+            MetricsTest.class,
+            ShardCoordinatorTest.class,
             MainTest.class
         );
 
@@ -1,7 +1,12 @@
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -70,6 +75,74 @@ interface Utils {
         );
     }
 
+    /**
+     * Construct a {@link ForkJoinPool} with a given parallelism whose worker threads are named using a given prefix.
+     *
+     * @param parallelism The number of worker threads of the {@link ForkJoinPool}
+     * @param prefix The prefix of the worker threads' names, which are suffixed by a sequence number
+     */
+    static ForkJoinPool newForkJoinPool(int parallelism, String prefix) {
+        final var sequence = new AtomicInteger();
+        return new ForkJoinPool(
+            parallelism,
+            pool -> {
+                final var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("%s-%d".formatted(prefix, sequence.getAndIncrement()));
+                return thread;
+            },
+            null,
+            false
+        );
+    }
+
+    /**
+     * Compute a result in {@link Constants#POOL}, so that any parallel {@link Stream} used to compute it runs on the
+     *   workers of {@link Constants#POOL} instead of the {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     * @param computation The {@link Supplier} computing the result
+     * @param <T> The type of the result
+     *
+     * @implNote The result is computed by the current thread if it already is a worker of any {@link ForkJoinPool},
+     *           whose parallel {@link Stream}s stay within that pool; e.g., a task submitted to
+     *           {@link Constants#POOL}, or a benchmark deliberately running on a single-threaded pool.
+     */
+    static <T> T compute(Supplier<T> computation) {
+        if (Constants.POOL == ForkJoinPool.commonPool() || Thread.currentThread() instanceof ForkJoinWorkerThread) {
+            return computation.get();
+        }
+        return Constants.POOL.submit(computation::get).join();
+    }
+
+    /**
+     * Construct a {@link Supplier} that computes its value using a given {@link Supplier} on its first use only, and
+     *   returns the same value afterward.
+     *
+     * @param initializer The {@link Supplier} computing the value; it must not return {@code null}
+     * @param <T> The type of the value
+     *
+     * @implNote The value is computed at most once, even if the constructed {@link Supplier} is first used by several
+     *           threads concurrently.
+     */
+    static <T> Supplier<T> lazy(Supplier<T> initializer) {
+        Objects.requireNonNull(initializer);
+        return new Supplier<>() {
+            private volatile T value;
+
+            @Override
+            public T get() {
+                final var value = this.value;
+                return value != null ? value : initialize();
+            }
+
+            private synchronized T initialize() {
+                if (value == null) {
+                    value = Objects.requireNonNull(initializer.get());
+                }
+                return value;
+            }
+        };
+    }
+
     /**
      * Release a given list of resources by invoking their clean-up methods where applicable.
      *
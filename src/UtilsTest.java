@@ -2,6 +2,7 @@ import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 
 class UtilsTest extends BaseUnitTest {
     private static final Collection<Double> COLLECTION = List.of(ThreadLocalRandom.current().nextDouble());
@@ -67,6 +68,43 @@ class UtilsTest extends BaseUnitTest {
         assert$(collectedCount == count, "Unexpected count: expected=%d, given=%d".formatted(count, collectedCount));
     }
 
+    @Test
+    void newForkJoinPool_givenPrefix_willNameWorkerThreads() {
+        final var pool = Utils.newForkJoinPool(2, "test-worker");
+        try {
+            final var name = pool.submit(() -> Thread.currentThread().getName()).join();
+            assert$(pool.getParallelism() == 2, "Unexpected parallelism: " + pool.getParallelism());
+            assert$(name.startsWith("test-worker-"), "Unexpected worker thread name: " + name);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void compute_givenForkJoinWorkerThread_willComputeInCurrentThread() {
+        final var pool = Utils.newForkJoinPool(1, "test-worker");
+        try {
+            final var threads = pool.submit(() -> List.of(
+                Thread.currentThread(),
+                Utils.compute(Thread::currentThread)
+            )).join();
+            assert$(threads.get(0) == threads.get(1), "Expected computation in current thread: " + threads);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void lazy_givenInitializer_willInitializeOnFirstUseOnly() {
+        final var initializations = new AtomicInteger();
+        final var target = Utils.lazy(() -> "value" + initializations.incrementAndGet());
+        assert$(initializations.get() == 0, "Expected no initialization before first use");
+
+        final var values = IntStream.range(0, 100).parallel().mapToObj(attempt -> target.get()).distinct().toList();
+        assert$(values.equals(List.of("value1")), () -> "Unexpected values: " + values);
+        assert$(initializations.get() == 1, () -> "Unexpected initialization count: " + initializations.get());
+    }
+
     @Test
     void releaseResources_shouldCloseAllGivenResources() {
         final var count = ThreadLocalRandom.current().nextInt(1000);
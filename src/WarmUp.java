@@ -0,0 +1,144 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * This class warms up the Java virtual machine by repeatedly counting a small sample flow log using the same reader,
+ *   tokenizer, and aggregation as the actual input, so that the just-in-time compiler has compiled the hot spots of
+ *   counting before the actual input is counted.
+ * <br/><br/>
+ *
+ * Warming up stops as soon as the just-in-time compiler has not spent any more time compiling for
+ *   {@value #PLATEAU_ITERATIONS} iterations in a row (i.e., the compiled code has settled), or once a time budget runs
+ *   out, whichever comes first.
+ *
+ * @implNote The sample is generated in memory once and written to a temporary file, so that it is read by the
+ *           configured file reader exactly like an actual flow log file (from the page cache, rather than the disk).
+ *           If the {@link CompilationMXBean} does not support compilation time monitoring, warming up always runs until
+ *           the time budget runs out.
+ */
+final class WarmUp {
+    /**
+     * The number of rows of the sample flow log
+     */
+    static final int SAMPLE_ROWS = 1 << 14;
+
+    /**
+     * The number of iterations in a row without any compilation after which the compiled code is considered settled
+     */
+    static final int PLATEAU_ITERATIONS = 3;
+
+    //==================================================================================================================
+    // Constructors
+    //==================================================================================================================
+
+    private WarmUp() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    //==================================================================================================================
+    // Implementation Methods
+    //==================================================================================================================
+
+    /**
+     * Warm up the Java virtual machine by repeatedly counting a sample flow log file using a given function.
+     *
+     * @param counter The function counting a flow log file the same way as the actual input
+     * @param budget The maximum duration of warming up; at least one iteration always runs
+     * @return The {@link Report} of the warm-up
+     *
+     * @throws UncheckedIOException An exception wrapping an underlying {@link IOException} thrown while writing the
+     *                              sample flow log file
+     */
+    static Report run(Function<TableFileReader, FlowCounts> counter, Duration budget) throws UncheckedIOException {
+        final var compiler = ManagementFactory.getCompilationMXBean();
+        final var monitored = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+        final var startTime = System.nanoTime();
+        final var startCompilationTime = monitored ? compiler.getTotalCompilationTime() : 0L;
+
+        final var sample = sample();
+        try {
+            final var reader = new TableFileReader(sample);
+            var iterations = 0;
+            var lastCompilationTime = startCompilationTime;
+            for (var settled = 0; settled < PLATEAU_ITERATIONS; ) {
+                counter.apply(reader);
+                iterations++;
+
+                if (monitored) {
+                    final var compilationTime = compiler.getTotalCompilationTime();
+                    settled = compilationTime == lastCompilationTime ? settled + 1 : 0;
+                    lastCompilationTime = compilationTime;
+                }
+                if (System.nanoTime() - startTime >= budget.toNanos()) {
+                    final var compilationTime = lastCompilationTime - startCompilationTime;
+                    return new Report(iterations, elapsed(startTime), compilationTime, false);
+                }
+            }
+            return new Report(iterations, elapsed(startTime), lastCompilationTime - startCompilationTime, true);
+        } finally {
+            try {
+                Files.deleteIfExists(sample);
+            } catch (IOException exception) {
+                Loggers.INFO.accept("[!] Failed to delete warm-up sample: " + sample);
+            }
+        }
+    }
+
+    //==================================================================================================================
+    // Private Helper Methods
+    //==================================================================================================================
+
+    /**
+     * Generate a sample flow log (with a header row) in memory and write it to a temporary file.
+     */
+    private static Path sample() throws UncheckedIOException {
+        final var content = new StringBuilder(SAMPLE_ROWS * (int) Constants.FLOW_LOG_RECORD_SIZE);
+        content.append("version account-id interface-id srcaddr dstaddr srcport dstport protocol packets bytes start ");
+        content.append("end action log-status\n");
+        try (var rows = new FlowLogGenerator(SAMPLE_ROWS).get()) {
+            rows.forEach(row -> content.append(String.join(" ", row)).append('\n'));
+        }
+
+        try {
+            final var path = Files.createTempFile(WarmUp.class.getSimpleName(), ".log");
+            path.toFile().deleteOnExit(); // Delete the file after the JVM terminates, even if it could not be earlier.
+            return Files.writeString(path, content);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to write warm-up sample", exception);
+        }
+    }
+
+    private static Duration elapsed(long startTime) {
+        return Duration.ofNanos(System.nanoTime() - startTime);
+    }
+
+    //==================================================================================================================
+    // Report Support
+    //==================================================================================================================
+
+    /**
+     * This record is the report of a warm-up.
+     *
+     * @param iterations The number of times the sample was counted
+     * @param duration The duration of the warm-up, including generating the sample
+     * @param compilationTime The approximate time in milliseconds spent by the just-in-time compiler during the warm-up
+     * @param settled Whether the compiled code settled before the time budget ran out
+     */
+    record Report(int iterations, Duration duration, long compilationTime, boolean settled) {
+        @Override
+        public String toString() {
+            return "Warmed up in %d iteration(s) over %.3f seconds with %d ms of JIT compilation (%s)".formatted(
+                iterations,
+                duration.toNanos() / 1e9,
+                compilationTime,
+                settled ? "compilation settled" : "time budget ran out"
+            );
+        }
+    }
+}
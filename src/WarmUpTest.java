@@ -0,0 +1,47 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+class WarmUpTest extends BaseUnitTest {
+    //==================================================================================================================
+    // Bootstrap
+    //==================================================================================================================
+
+    public static void main(String[] args) {
+        run();
+    }
+
+    //==================================================================================================================
+    // Tests
+    //==================================================================================================================
+
+    @Test
+    void run_givenCounter_willCountSampleAndDeleteIt() {
+        final var sample = new AtomicReference<Path>();
+        final var processor = new FlowLogProcessor(TableSupplier.NOOP, TableConsumer.NOOP);
+        final var report = WarmUp.run(
+            reader -> {
+                sample.set(reader.path);
+                final var counts = processor.toCounts(reader);
+                assert$(
+                    counts.rows() == WarmUp.SAMPLE_ROWS,
+                    () -> "Unexpected row count: expected=%d, given=%d".formatted(WarmUp.SAMPLE_ROWS, counts.rows())
+                );
+                return counts;
+            },
+            Duration.ofSeconds(10)
+        );
+
+        assert$(report.iterations() >= 1, () -> "Unexpected iteration count: " + report.iterations());
+        assert$(!Files.exists(sample.get()), () -> "Expected the sample to be deleted: " + sample.get());
+    }
+
+    @Test
+    void run_givenExhaustedBudget_willStopAfterOneIteration() {
+        final var report = WarmUp.run(reader -> new FlowCounts(), Duration.ZERO);
+
+        assert$(report.iterations() == 1, () -> "Unexpected iteration count: " + report.iterations());
+        assert$(!report.settled(), "Expected the time budget to run out");
+    }
+}